@@ -372,6 +372,7 @@ public class ClientProxy extends CommonProxy {
     BlockConduitBundle.rendererId = RenderingRegistry.getNextAvailableRenderId();
     RenderingRegistry.registerBlockHandler(cbr);
     ClientRegistry.bindTileEntitySpecialRenderer(TileConduitBundle.class, cbr);
+    FMLCommonHandler.instance().bus().register(cbr);
 
     ClientRegistry.bindTileEntitySpecialRenderer(TileTravelAnchor.class, new TravelEntitySpecialRenderer());
 
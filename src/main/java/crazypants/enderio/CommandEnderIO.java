@@ -0,0 +1,158 @@
+package crazypants.enderio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ChatComponentText;
+import net.minecraft.world.WorldServer;
+import crazypants.enderio.conduit.AbstractConduitNetwork;
+import crazypants.enderio.conduit.ConduitNetworkTickHandler;
+import crazypants.enderio.conduit.IConduit;
+import crazypants.enderio.conduit.NetworkTickStats;
+import crazypants.enderio.config.Config;
+import crazypants.enderio.machine.AbstractMachineEntity;
+
+public class CommandEnderIO extends CommandBase {
+
+  private static final String CMD_NET_TICKS = "netticks";
+  private static final String CMD_NET_STATS = "netstats";
+  private static final String CMD_MACHINES = "machines";
+
+  private static final int DEFAULT_NET_STATS_COUNT = 10;
+
+  @Override
+  public String getCommandName() {
+    return "enderio";
+  }
+
+  @Override
+  public String getCommandUsage(ICommandSender sender) {
+    return "/enderio <" + CMD_NET_TICKS + "|" + CMD_NET_STATS + " [count|on|off]|" + CMD_MACHINES + ">";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 2;
+  }
+
+  @Override
+  public void processCommand(ICommandSender sender, String[] args) {
+    if(args.length < 1) {
+      throw new WrongUsageException(getCommandUsage(sender));
+    }
+    if(CMD_NET_TICKS.equalsIgnoreCase(args[0])) {
+      showNetworkTicks(sender);
+    } else if(CMD_NET_STATS.equalsIgnoreCase(args[0])) {
+      processNetworkStats(sender, args);
+    } else if(CMD_MACHINES.equalsIgnoreCase(args[0])) {
+      showMachines(sender);
+    } else {
+      throw new WrongUsageException(getCommandUsage(sender));
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  @Override
+  public List addTabCompletionOptions(ICommandSender sender, String[] args) {
+    if(args.length == 1) {
+      return getListOfStringsMatchingLastWord(args, CMD_NET_TICKS, CMD_NET_STATS, CMD_MACHINES);
+    }
+    if(args.length == 2 && CMD_NET_STATS.equalsIgnoreCase(args[0])) {
+      return getListOfStringsMatchingLastWord(args, "on", "off");
+    }
+    return null;
+  }
+
+  private void showNetworkTicks(ICommandSender sender) {
+    ConduitNetworkTickHandler th = ConduitNetworkTickHandler.instance;
+    sendMessage(sender, EnderIO.lang.localize("command.netticks.networks", th.getNetworkCount(), th.getLastTickedCount(), th.getLastDeferredCount()));
+    sendMessage(sender, EnderIO.lang.localize("command.netticks.time", th.getLastTickNanos() / 1000, Config.conduitNetworkTickBudgetMicros));
+    sendMessage(sender, EnderIO.lang.localize("command.netticks.deferred", th.getDeferredTicks()));
+  }
+
+  private void processNetworkStats(ICommandSender sender, String[] args) {
+    int count = DEFAULT_NET_STATS_COUNT;
+    if(args.length > 1) {
+      if("on".equalsIgnoreCase(args[1]) || "off".equalsIgnoreCase(args[1])) {
+        Config.conduitNetworkProfilingEnabled = "on".equalsIgnoreCase(args[1]);
+        sendMessage(sender, EnderIO.lang.localize("command.netstats." + args[1].toLowerCase()));
+        return;
+      }
+      count = parseIntBounded(sender, args[1], 1, 100);
+    }
+    if(!Config.conduitNetworkProfilingEnabled) {
+      sendMessage(sender, EnderIO.lang.localize("command.netstats.disabled"));
+      return;
+    }
+
+    List<AbstractConduitNetwork<?, ?>> networks = new ArrayList<AbstractConduitNetwork<?, ?>>();
+    for (AbstractConduitNetwork<?, ?> network : ConduitNetworkTickHandler.instance.getNetworks()) {
+      if(network.getTickStats() != null && !network.getConduits().isEmpty()) {
+        networks.add(network);
+      }
+    }
+    Collections.sort(networks, new Comparator<AbstractConduitNetwork<?, ?>>() {
+      @Override
+      public int compare(AbstractConduitNetwork<?, ?> a, AbstractConduitNetwork<?, ?> b) {
+        return Float.compare(b.getTickStats().getAverageMicros(), a.getTickStats().getAverageMicros());
+      }
+    });
+
+    sendMessage(sender, EnderIO.lang.localize("command.netstats.header", Math.min(count, networks.size()), networks.size()));
+    for (int i = 0; i < count && i < networks.size(); i++) {
+      AbstractConduitNetwork<?, ?> network = networks.get(i);
+      NetworkTickStats stats = network.getTickStats();
+      IConduit con = network.getConduits().get(0);
+      sendMessage(sender, EnderIO.lang.localize("command.netstats.network", i + 1, network.getClass().getSimpleName(),
+          con.getLocation().chatString(), con.getBundle().getWorld().provider.dimensionId, network.getConduits().size(), network.getEndpointCount()));
+      sendMessage(sender, EnderIO.lang.localize("command.netstats.timing", String.format("%.1f", stats.getAverageMicros()),
+          stats.getPercentileMicros(0.5f), stats.getPercentileMicros(0.95f), stats.getMaxMicros(), String.format("%.1f", stats.getAverageTransferred())));
+    }
+  }
+
+  private void showMachines(ICommandSender sender) {
+    // awake and sleeping counts by machine name
+    Map<String, int[]> counts = new TreeMap<String, int[]>();
+    int total = 0;
+    int sleeping = 0;
+    for (WorldServer world : MinecraftServer.getServer().worldServers) {
+      for (Object te : world.loadedTileEntityList) {
+        if(te instanceof AbstractMachineEntity) {
+          AbstractMachineEntity machine = (AbstractMachineEntity) te;
+          int[] count = counts.get(machine.getMachineName());
+          if(count == null) {
+            count = new int[2];
+            counts.put(machine.getMachineName(), count);
+          }
+          total++;
+          if(machine.isSleeping()) {
+            count[1]++;
+            sleeping++;
+          } else {
+            count[0]++;
+          }
+        }
+      }
+    }
+    sendMessage(sender, EnderIO.lang.localize("command.machines.header", total, total - sleeping, sleeping));
+    for (Map.Entry<String, int[]> e : counts.entrySet()) {
+      sendMessage(sender, EnderIO.lang.localize("command.machines.type", e.getKey(), e.getValue()[0], e.getValue()[1]));
+    }
+    if(!Config.machineSleepEnabled) {
+      sendMessage(sender, EnderIO.lang.localize("command.machines.disabled"));
+    }
+  }
+
+  static void sendMessage(ICommandSender sender, String msg) {
+    sender.addChatMessage(new ChatComponentText(msg));
+  }
+
+}
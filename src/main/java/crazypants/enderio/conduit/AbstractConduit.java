@@ -534,7 +534,7 @@ public abstract class AbstractConduit implements IConduit {
 
     AbstractConduitNetwork<?, ?> network = getNetwork();
     if (network != null) {
-      network.destroyNetwork();
+      network.removeConduit(this);
     }
     connectionsChanged();
   }
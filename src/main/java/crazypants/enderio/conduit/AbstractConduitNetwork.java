@@ -1,20 +1,33 @@
 package crazypants.enderio.conduit;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import com.enderio.core.common.util.BlockCoord;
 
 //I=base type, I is the base class of the implementations accepted by the network 
 public abstract class AbstractConduitNetwork<T extends IConduit, I extends T> {
 
   protected final List<I> conduits = new ArrayList<I>();
+  // position of each member in the list above, by identity, so members can be
+  // looked up and removed without scanning the list
+  private final Map<I, Integer> conduitIndex = new IdentityHashMap<I, Integer>();
 
   protected final Class<I> implClass;
   protected final Class<T> baseConduitClass;
 
+  // only set while network profiling is enabled
+  private NetworkTickStats tickStats;
+
   protected AbstractConduitNetwork(Class<I> implClass, Class<T> baseConduitClass) {
     this.implClass = implClass;
     this.baseConduitClass = baseConduitClass;
@@ -41,32 +54,273 @@ public abstract class AbstractConduitNetwork<T extends IConduit, I extends T> {
     return baseConduitClass;
   }
 
+  /**
+   * Floods the network outwards from the given bundle. Uses an explicit work
+   * queue rather than recursion so long runs of conduits can't overflow the
+   * stack.
+   */
   protected void setNetwork(World world, IConduitBundle tile) {
-
-    T conduit = tile.getConduit(getBaseConduitType());
-
-    if(conduit != null && implClass.isAssignableFrom(conduit.getClass()) && conduit.setNetwork(this)) {
-      addConduit(implClass.cast(conduit));
-      TileEntity te = tile.getEntity();
-      Collection<T> connections = ConduitUtil.getConnectedConduits(world, te.xCoord, te.yCoord, te.zCoord, getBaseConduitType());
-      for (T con : connections) {
-        if(con.getNetwork() == null) {
-          setNetwork(world, con.getBundle());
-        } else if(con.getNetwork() != this) {
-          con.getNetwork().destroyNetwork();
-          setNetwork(world, con.getBundle());
+    Deque<IConduitBundle> toVisit = new ArrayDeque<IConduitBundle>();
+    toVisit.add(tile);
+    while (!toVisit.isEmpty()) {
+      IConduitBundle bundle = toVisit.poll();
+      T conduit = bundle.getConduit(getBaseConduitType());
+      if(conduit == null || !implClass.isInstance(conduit) || containsConduit(conduit)) {
+        continue;
+      }
+      AbstractConduitNetwork<?, ?> oldNetwork = conduit.getNetwork();
+      if(oldNetwork != null && oldNetwork != this) {
+        oldNetwork.destroyNetwork();
+      }
+      if(conduit.setNetwork(this)) {
+        addConduit(implClass.cast(conduit));
+        TileEntity te = bundle.getEntity();
+        Collection<T> connections = ConduitUtil.getConnectedConduits(world, te.xCoord, te.yCoord, te.zCoord, getBaseConduitType());
+        for (T con : connections) {
+          if(!containsConduit(con)) {
+            toVisit.add(con.getBundle());
+          }
         }
       }
     }
   }
 
   public void addConduit(I con) {
-    if(!conduits.contains(con)) {
-      if(conduits.isEmpty()) {
-        ConduitNetworkTickHandler.instance.registerNetwork(this);
+    trackConduit(con);
+  }
+
+  /**
+   * Adds the conduit to the member list without any of the side effects of
+   * {@link #addConduit(IConduit)}.
+   *
+   * @return false if the conduit already was a member of this network
+   */
+  protected boolean trackConduit(I con) {
+    if(conduitIndex.containsKey(con)) {
+      return false;
+    }
+    if(conduits.isEmpty()) {
+      ConduitNetworkTickHandler.instance.registerNetwork(this);
+    }
+    conduitIndex.put(con, conduits.size());
+    conduits.add(con);
+    return true;
+  }
+
+  /**
+   * Removes the conduit from the member list by moving the last member into its
+   * place.
+   */
+  private boolean untrackConduit(I con) {
+    Integer index = conduitIndex.remove(con);
+    if(index == null) {
+      return false;
+    }
+    I last = conduits.remove(conduits.size() - 1);
+    if(last != con) {
+      conduits.set(index, last);
+      conduitIndex.put(last, index);
+    }
+    return true;
+  }
+
+  public boolean containsConduit(IConduit con) {
+    return conduitIndex.containsKey(con);
+  }
+
+  /**
+   * Networks that return true keep their endpoint state when conduits are
+   * added or removed: neighbouring networks are merged into them in place and
+   * removing a conduit only releases the part of the graph that is no longer
+   * connected.
+   */
+  protected boolean isIncremental() {
+    return false;
+  }
+
+  public boolean canMergeWith(AbstractConduitNetwork<?, ?> other) {
+    return other != null && other != this && other.getClass() == getClass() && isIncremental();
+  }
+
+  /**
+   * Moves all conduits of the given network into this one without walking the
+   * conduit graph. The other network is left empty and unregistered.
+   */
+  @SuppressWarnings("unchecked")
+  public void mergeNetwork(AbstractConduitNetwork<?, ?> other) {
+    if(!canMergeWith(other)) {
+      return;
+    }
+    AbstractConduitNetwork<T, I> from = (AbstractConduitNetwork<T, I>) other;
+    ConduitNetworkTickHandler.instance.unregisterNetwork(from);
+    if(conduits.isEmpty() && !from.conduits.isEmpty()) {
+      ConduitNetworkTickHandler.instance.registerNetwork(this);
+    }
+    for (I con : from.conduits) {
+      con.setNetwork(this);
+      if(!conduitIndex.containsKey(con)) {
+        conduitIndex.put(con, conduits.size());
+        conduits.add(con);
+      }
+    }
+    networkMerged(from);
+    from.conduits.clear();
+    from.conduitIndex.clear();
+  }
+
+  /**
+   * Called once the conduits of other have been added to this network, before
+   * other is emptied, so subclasses can take over its endpoint state instead of
+   * rebuilding it.
+   */
+  protected void networkMerged(AbstractConduitNetwork<T, I> other) {
+  }
+
+  /**
+   * Removes a single conduit from the network. Incremental networks only look
+   * at the part of the graph around the removed conduit and release the
+   * conduits that have been cut off, all others are destroyed.
+   */
+  public void removeConduit(IConduit con) {
+    if(!isIncremental() || !implClass.isInstance(con)) {
+      destroyNetwork();
+      return;
+    }
+    I toRemove = implClass.cast(con);
+    // its connections are already gone, so look for members next to it
+    List<I> neighbours = new ArrayList<I>();
+    for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
+      I neighbour = getMember(toRemove, dir);
+      if(neighbour != null) {
+        neighbours.add(neighbour);
+      }
+    }
+    if(untrackConduit(toRemove)) {
+      conduitReleased(toRemove);
+      toRemove.setNetwork(null);
+    }
+    splitNetwork(neighbours);
+  }
+
+  /**
+   * Re-checks connectivity after connections between members of this network
+   * have been removed. The network is flooded from the given conduits, usually
+   * the ends of the removed connections, one step at a time each, and a flood
+   * that runs into another one joins it. Once only one flood is left running
+   * the rest of the network must be connected to it, so it keeps the network
+   * and only the parts that have been cut off are walked completely.
+   */
+  public void splitNetwork(Collection<? extends IConduit> seeds) {
+    if(!isIncremental() || conduits.isEmpty()) {
+      destroyNetwork();
+      return;
+    }
+
+    Map<I, Flood<I>> visitedBy = new IdentityHashMap<I, Flood<I>>();
+    List<Flood<I>> open = new ArrayList<Flood<I>>();
+    for (IConduit seed : seeds) {
+      if(implClass.isInstance(seed) && containsConduit(seed) && !visitedBy.containsKey(seed)) {
+        Flood<I> flood = new Flood<I>(implClass.cast(seed));
+        visitedBy.put(flood.members.get(0), flood);
+        open.add(flood);
       }
-      conduits.add(con);
     }
+
+    List<Flood<I>> closed = new ArrayList<Flood<I>>();
+    while (open.size() > 1) {
+      for (int i = 0; i < open.size() && open.size() > 1; i++) {
+        Flood<I> flood = open.get(i);
+        I con = flood.queue.poll();
+        if(con == null) {
+          closed.add(flood);
+          open.remove(i--);
+          continue;
+        }
+        for (ForgeDirection dir : con.getConduitConnections()) {
+          I neighbour = getMember(con, dir);
+          if(neighbour == null) {
+            continue;
+          }
+          Flood<I> other = visitedBy.get(neighbour);
+          if(other == null) {
+            visitedBy.put(neighbour, flood);
+            flood.members.add(neighbour);
+            flood.queue.add(neighbour);
+            continue;
+          }
+          other = other.getRoot();
+          if(other != flood) {
+            int index = open.indexOf(other);
+            flood.join(other);
+            open.remove(index);
+            if(index < i) {
+              i--;
+            }
+          }
+        }
+      }
+    }
+
+    for (Flood<I> flood : closed) {
+      for (I con : flood.members) {
+        if(untrackConduit(con)) {
+          conduitReleased(con);
+          con.setNetwork(null);
+        }
+      }
+    }
+    connectionsChanged();
+  }
+
+  /**
+   * Called when connections between members of this network have been added or
+   * removed without changing which conduits belong to it, e.g. when a loop is
+   * opened or closed.
+   */
+  public void connectionsChanged() {
+  }
+
+  private I getMember(I con, ForgeDirection dir) {
+    BlockCoord loc = con.getLocation().getLocation(dir);
+    T neighbour = ConduitUtil.getConduit(con.getBundle().getWorld(), loc.x, loc.y, loc.z, getBaseConduitType());
+    return neighbour != null && containsConduit(neighbour) ? implClass.cast(neighbour) : null;
+  }
+
+  private static class Flood<I> {
+
+    final List<I> members = new ArrayList<I>();
+    final Deque<I> queue = new ArrayDeque<I>();
+    // the flood this one has run into
+    Flood<I> joined;
+
+    Flood(I seed) {
+      members.add(seed);
+      queue.add(seed);
+    }
+
+    Flood<I> getRoot() {
+      Flood<I> root = this;
+      while (root.joined != null) {
+        root = root.joined;
+      }
+      return root;
+    }
+
+    void join(Flood<I> other) {
+      members.addAll(other.members);
+      queue.addAll(other.queue);
+      other.members.clear();
+      other.queue.clear();
+      other.joined = this;
+    }
+
+  }
+
+  /**
+   * Called when a conduit leaves this network without the network being
+   * destroyed, so subclasses can drop any endpoints it provided.
+   */
+  protected void conduitReleased(I con) {
   }
 
   public void destroyNetwork() {
@@ -74,6 +328,7 @@ public abstract class AbstractConduitNetwork<T extends IConduit, I extends T> {
       con.setNetwork(null);
     }
     conduits.clear();
+    conduitIndex.clear();
     ConduitNetworkTickHandler.instance.unregisterNetwork(this);
   }
 
@@ -100,4 +355,38 @@ public abstract class AbstractConduitNetwork<T extends IConduit, I extends T> {
 
   public void doNetworkTick() {
   }
+
+  /**
+   * Time sensitive networks are ticked every tick, even when the conduit
+   * network tick budget has been used up.
+   */
+  public boolean isTimeSensitive() {
+    return false;
+  }
+
+  /**
+   * Number of external connections (inventories, receptors, tanks...) served
+   * by this network.
+   */
+  public int getEndpointCount() {
+    return 0;
+  }
+
+  public NetworkTickStats getTickStats() {
+    return tickStats;
+  }
+
+  void setTickStats(NetworkTickStats tickStats) {
+    this.tickStats = tickStats;
+  }
+
+  /**
+   * Records items, RF or mB moved by this network for the profiler. Does
+   * nothing unless profiling is enabled.
+   */
+  public final void trackTransfer(int amount) {
+    if(tickStats != null) {
+      tickStats.transferred(amount);
+    }
+  }
 }
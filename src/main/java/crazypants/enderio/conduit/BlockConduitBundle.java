@@ -834,10 +834,14 @@ public class BlockConduitBundle extends BlockEio implements IGuiHandler, IFacade
       super.addCollisionBoxesToList(world, x, y, z, axisalignedbb, arraylist, par7Entity);
     } else {
 
-      Collection<CollidableComponent> bounds = con.getCollidableComponents();
-      for (CollidableComponent bnd : bounds) {
-        setBlockBounds(bnd.bound.minX, bnd.bound.minY, bnd.bound.minZ, bnd.bound.maxX, bnd.bound.maxY, bnd.bound.maxZ);
-        super.addCollisionBoxesToList(world, x, y, z, axisalignedbb, arraylist, par7Entity);
+      double[] bounds = con.getCollidableBounds();
+      if(intersects(bounds, 0, x, y, z, axisalignedbb)) {
+        for (int i = 6; i < bounds.length; i += 6) {
+          if(intersects(bounds, i, x, y, z, axisalignedbb)) {
+            arraylist.add(AxisAlignedBB.getBoundingBox(x + bounds[i], y + bounds[i + 1], z + bounds[i + 2], x + bounds[i + 3], y + bounds[i + 4], z
+                + bounds[i + 5]));
+          }
+        }
       }
 
       if(con.getConduits().isEmpty()) { // just in case
@@ -850,6 +854,52 @@ public class BlockConduitBundle extends BlockEio implements IGuiHandler, IFacade
 
   }
 
+  private static boolean intersects(double[] bounds, int i, int x, int y, int z, AxisAlignedBB mask) {
+    // same test as AxisAlignedBB.intersectsWith
+    return mask.maxX > x + bounds[i] && mask.minX < x + bounds[i + 3]
+        && mask.maxY > y + bounds[i + 1] && mask.minY < y + bounds[i + 4]
+        && mask.maxZ > z + bounds[i + 2] && mask.minZ < z + bounds[i + 5];
+  }
+
+  /**
+   * Returns false if the segment between the two points can't hit the box at
+   * index i of the bounds.
+   */
+  private static boolean mayHit(double[] bounds, int i, int x, int y, int z, Vec3 from, Vec3 to) {
+    double tMin = 0;
+    double tMax = 1;
+    for (int axis = 0; axis < 3; axis++) {
+      double start, end;
+      if(axis == 0) {
+        start = from.xCoord - x;
+        end = to.xCoord - x;
+      } else if(axis == 1) {
+        start = from.yCoord - y;
+        end = to.yCoord - y;
+      } else {
+        start = from.zCoord - z;
+        end = to.zCoord - z;
+      }
+      double min = bounds[i + axis];
+      double max = bounds[i + axis + 3];
+      double delta = end - start;
+      if(delta == 0) {
+        if(start < min || start > max) {
+          return false;
+        }
+      } else {
+        double t1 = (min - start) / delta;
+        double t2 = (max - start) / delta;
+        tMin = Math.max(tMin, Math.min(t1, t2));
+        tMax = Math.min(tMax, Math.max(t1, t2));
+        if(tMin > tMax) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
   @Override
   @SideOnly(Side.CLIENT)
   public AxisAlignedBB getSelectedBoundingBoxFromPool(World world, int x, int y, int z) {
@@ -981,13 +1031,23 @@ public class BlockConduitBundle extends BlockEio implements IGuiHandler, IFacade
       }
     } else {
       ConduitDisplayMode mode = ConduitUtil.getDisplayMode(player);
-      Collection<CollidableComponent> components = new ArrayList<CollidableComponent>(bundle.getCollidableComponents());
-      for (CollidableComponent component : components) {
-        if((component.conduitType != null || mode == ConduitDisplayMode.ALL) && ConduitUtil.renderConduit(player, component.conduitType)) {
-          setBlockBounds(component.bound.minX, component.bound.minY, component.bound.minZ, component.bound.maxX, component.bound.maxY, component.bound.maxZ);
-          MovingObjectPosition hitPos = super.collisionRayTrace(world, x, y, z, origin, direction);
-          if(hitPos != null) {
-            hits.add(new RaytraceResult(component, hitPos));
+      double[] bounds = bundle.getCollidableBounds();
+      List<CollidableComponent> components = bundle.getCollidableComponents();
+      // both come from the same cache, but don't trust the bounds if they don't
+      // line up with the components
+      boolean useBounds = bounds.length == 6 + components.size() * 6;
+      if(!useBounds || mayHit(bounds, 0, x, y, z, origin, direction)) {
+        for (int i = 0; i < components.size(); i++) {
+          CollidableComponent component = components.get(i);
+          if(useBounds && !mayHit(bounds, 6 + i * 6, x, y, z, origin, direction)) {
+            continue;
+          }
+          if((component.conduitType != null || mode == ConduitDisplayMode.ALL) && ConduitUtil.renderConduit(player, component.conduitType)) {
+            setBlockBounds(component.bound.minX, component.bound.minY, component.bound.minZ, component.bound.maxX, component.bound.maxY, component.bound.maxZ);
+            MovingObjectPosition hitPos = super.collisionRayTrace(world, x, y, z, origin, direction);
+            if(hitPos != null) {
+              hits.add(new RaytraceResult(component, hitPos));
+            }
           }
         }
       }
@@ -1,12 +1,15 @@
 package crazypants.enderio.conduit;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.IdentityHashMap;
 import java.util.List;
 
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import crazypants.enderio.config.Config;
 
 public class ConduitNetworkTickHandler {
 
@@ -20,8 +23,17 @@ public class ConduitNetworkTickHandler {
 
   private final List<TickListener> listeners = new ArrayList<TickListener>();
 
-  private final IdentityHashMap<AbstractConduitNetwork<?,?>, Boolean> networks =
-          new IdentityHashMap<AbstractConduitNetwork<?, ?>, Boolean>();
+  private final IdentityHashMap<AbstractConduitNetwork<?, ?>, ScheduledNetwork> networks =
+          new IdentityHashMap<AbstractConduitNetwork<?, ?>, ScheduledNetwork>();
+
+  // Networks in the order they will be ticked. Entries of networks that have
+  // since been unregistered are dropped when they reach the front.
+  private final Deque<ScheduledNetwork> schedule = new ArrayDeque<ScheduledNetwork>();
+
+  private long lastTickNanos;
+  private int lastTickedCount;
+  private int lastDeferredCount;
+  private long deferredTicks;
 
   public void addListener(TickListener listener) {
     listeners.add(listener);
@@ -32,7 +44,11 @@ public class ConduitNetworkTickHandler {
   }
 
   public void registerNetwork(AbstractConduitNetwork<?,?> cn) {
-    networks.put(cn, Boolean.TRUE);
+    if(!networks.containsKey(cn)) {
+      ScheduledNetwork entry = new ScheduledNetwork(cn);
+      networks.put(cn, entry);
+      schedule.add(entry);
+    }
   }
 
   public void unregisterNetwork(AbstractConduitNetwork<?,?> cn) {
@@ -59,9 +75,111 @@ public class ConduitNetworkTickHandler {
       h.tickEnd(event);
     }
     listeners.clear();
-    for(AbstractConduitNetwork<?,?> cn : networks.keySet()) {
-      cn.doNetworkTick();
+    tickNetworks();
+  }
+
+  /**
+   * Ticks each registered network at most once. If a budget is configured,
+   * networks whose average tick cost no longer fits into what is left of it
+   * are deferred and are the first to be ticked next time, so all networks get
+   * their turn in rotation. Time sensitive networks are always ticked, and at
+   * least one other network is ticked each time so progress is always made.
+   */
+  private void tickNetworks() {
+    long budget = Config.conduitNetworkTickBudgetMicros * 1000L;
+    boolean profile = Config.conduitNetworkProfilingEnabled;
+    long start = System.nanoTime();
+    int toTick = schedule.size();
+    int ticked = 0;
+    boolean progressed = false;
+    List<ScheduledNetwork> deferred = new ArrayList<ScheduledNetwork>();
+    for (int i = 0; i < toTick; i++) {
+      ScheduledNetwork entry = schedule.poll();
+      if(networks.get(entry.network) != entry) {
+        continue;
+      }
+      boolean timeSensitive = entry.network.isTimeSensitive();
+      if(budget > 0 && progressed && !timeSensitive
+          && (!deferred.isEmpty() || System.nanoTime() - start + entry.averageNanos > budget)) {
+        // once one network is deferred all later ones are too, so none of them
+        // can overtake it in the rotation
+        deferred.add(entry);
+        continue;
+      }
+      long networkStart = System.nanoTime();
+      entry.network.doNetworkTick();
+      long networkNanos = System.nanoTime() - networkStart;
+      entry.tickCompleted(networkNanos);
+      NetworkTickStats stats = getTickStats(entry.network, profile);
+      if(stats != null) {
+        stats.tickCompleted(networkNanos);
+      }
+      schedule.add(entry);
+      ticked++;
+      progressed |= !timeSensitive;
+    }
+    for (int i = deferred.size() - 1; i >= 0; i--) {
+      schedule.addFirst(deferred.get(i));
+    }
+    lastTickNanos = System.nanoTime() - start;
+    lastTickedCount = ticked;
+    lastDeferredCount = deferred.size();
+    if(!deferred.isEmpty()) {
+      deferredTicks++;
+    }
+  }
+
+  private static NetworkTickStats getTickStats(AbstractConduitNetwork<?, ?> cn, boolean profile) {
+    NetworkTickStats stats = cn.getTickStats();
+    if(profile && stats == null) {
+      stats = new NetworkTickStats();
+      cn.setTickStats(stats);
+    } else if(!profile && stats != null) {
+      stats = null;
+      cn.setTickStats(null);
     }
+    return stats;
+  }
+
+  public List<AbstractConduitNetwork<?, ?>> getNetworks() {
+    return new ArrayList<AbstractConduitNetwork<?, ?>>(networks.keySet());
+  }
+
+  public int getNetworkCount() {
+    return networks.size();
+  }
+
+  public long getLastTickNanos() {
+    return lastTickNanos;
+  }
+
+  public int getLastTickedCount() {
+    return lastTickedCount;
+  }
+
+  public int getLastDeferredCount() {
+    return lastDeferredCount;
+  }
+
+  public long getDeferredTicks() {
+    return deferredTicks;
+  }
+
+  private static class ScheduledNetwork {
+
+    final AbstractConduitNetwork<?, ?> network;
+
+    long averageNanos;
+
+    ScheduledNetwork(AbstractConduitNetwork<?, ?> network) {
+      this.network = network;
+    }
+
+    void tickCompleted(long nanos) {
+      // exponential moving average over roughly the last 20 ticks
+      averageNanos += (nanos - averageNanos) / 20;
+    }
+
   }
 
 }
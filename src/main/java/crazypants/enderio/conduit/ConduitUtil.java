@@ -1,6 +1,7 @@
 package crazypants.enderio.conduit;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -35,7 +36,6 @@ import crazypants.enderio.conduit.me.MEUtil;
 import crazypants.enderio.conduit.oc.OCUtil;
 import crazypants.enderio.conduit.redstone.IInsulatedRedstoneConduit;
 import crazypants.enderio.conduit.redstone.IRedstoneConduit;
-import crazypants.enderio.conduit.redstone.Signal;
 import crazypants.enderio.machine.RedstoneControlMode;
 import crazypants.enderio.tool.ToolUtil;
 
@@ -61,19 +61,42 @@ public class ConduitUtil {
   @SuppressWarnings({ "unchecked", "rawtypes" })
   private static boolean reuseNetwork(IConduit con, Collection<? extends IConduit> connections, World world) {
     AbstractConduitNetwork network = null;
+    List<AbstractConduitNetwork> toMerge = new ArrayList<AbstractConduitNetwork>();
     for (IConduit conduit : connections) {
-      if(network == null) {
-        network = conduit.getNetwork();
-      } else if(network != conduit.getNetwork()) {
+      AbstractConduitNetwork other = conduit.getNetwork();
+      if(other == null) {
+        // not part of a network yet, only a full init picks it up
         return false;
       }
+      if(network == null) {
+        network = other;
+      } else if(other != null && network != other && !toMerge.contains(other)) {
+        if(!network.canMergeWith(other)) {
+          return false;
+        }
+        toMerge.add(other);
+      }
     }
     if(network == null) {
       return false;
     }
+    // merge the smaller networks into the largest one
+    for (AbstractConduitNetwork other : toMerge) {
+      if(other.getConduits().size() > network.getConduits().size()) {
+        AbstractConduitNetwork tmp = network;
+        network = other;
+        other = tmp;
+      }
+      network.mergeNetwork(other);
+    }
     if(con.setNetwork(network)) {
       network.addConduit(con);
-      network.notifyNetworkOfUpdate();
+      if(network.isIncremental()) {
+        TileEntity te = con.getBundle().getEntity();
+        world.markBlockForUpdate(te.xCoord, te.yCoord, te.zCoord);
+      } else {
+        network.notifyNetworkOfUpdate();
+      }
       return true;
     }
     return false;
@@ -86,11 +109,12 @@ public class ConduitUtil {
     if(neighbour != null) {
       neighbour.conduitConnectionRemoved(connDir.getOpposite());
       if(neighbour.getNetwork() != null) {
-        neighbour.getNetwork().destroyNetwork();
+        neighbour.getNetwork().splitNetwork(Arrays.asList(neighbour, con));
       }
     }
-    if(con.getNetwork() != null) { //this should have been destroyed when destroying the neighbours network but lets just make sure
-      con.getNetwork().destroyNetwork();
+    if(con.getNetwork() != null && (neighbour == null || con.getNetwork() != neighbour.getNetwork())) {
+      //this should have been split or destroyed with the neighbours network but lets just make sure
+      con.getNetwork().splitNetwork(Collections.singletonList(con));
     }
     con.connectionsChanged();
     if(neighbour != null) {
@@ -104,11 +128,24 @@ public class ConduitUtil {
     if(neighbour != null && con.canConnectToConduit(faceHit, neighbour) && neighbour.canConnectToConduit(faceHit.getOpposite(), con)) {
       con.conduitConnectionAdded(faceHit);
       neighbour.conduitConnectionAdded(faceHit.getOpposite());
-      if(con.getNetwork() != null) {
-        con.getNetwork().destroyNetwork();
-      }
-      if(neighbour.getNetwork() != null) {
-        neighbour.getNetwork().destroyNetwork();
+      AbstractConduitNetwork<?, ?> network = con.getNetwork();
+      AbstractConduitNetwork<?, ?> neighbourNetwork = neighbour.getNetwork();
+      if(network != null && network == neighbourNetwork && network.isIncremental()) {
+        // closed a loop within one network, nothing to re-form
+        network.connectionsChanged();
+      } else if(network != null && network.canMergeWith(neighbourNetwork)) {
+        if(neighbourNetwork.getConduits().size() > network.getConduits().size()) {
+          neighbourNetwork.mergeNetwork(network);
+        } else {
+          network.mergeNetwork(neighbourNetwork);
+        }
+      } else {
+        if(network != null) {
+          network.destroyNetwork();
+        }
+        if(neighbourNetwork != null) {
+          neighbourNetwork.destroyNetwork();
+        }
       }
       con.connectionsChanged();
       neighbour.connectionsChanged();
@@ -315,22 +352,14 @@ public class ConduitUtil {
   }
 
   public static int getInternalSignalForColor(IConduitBundle bundle, DyeColor col) {
-    int signalStrength = 0;
     if(bundle == null) {
       return 0;
     }
     IRedstoneConduit rsCon = bundle.getConduit(IRedstoneConduit.class);
     if(rsCon != null) {
-      Set<Signal> signals = rsCon.getNetworkOutputs(ForgeDirection.UNKNOWN);
-      for (Signal sig : signals) {
-        if(sig.color == col) {
-          if(sig.strength > signalStrength) {
-            signalStrength = sig.strength;
-          }
-        }
-      }
+      return rsCon.getNetworkSignalStrength(col);
     }
-    return signalStrength;
+    return 0;
   }
 
   public static boolean isFluidValid(FluidStack fluidStack) {
@@ -72,6 +72,14 @@ public interface IConduitBundle extends IInternalPowerHandler, IFluidHandler, II
 
   List<CollidableComponent> getCollidableComponents();
 
+  /**
+   * Bounds of {@link #getCollidableComponents()} as a flat array, starting with
+   * the bounds enclosing all components followed by those of each component in
+   * the same order. Each is given as minX, minY, minZ, maxX, maxY, maxZ. The
+   * array is cached and must not be modified.
+   */
+  double[] getCollidableBounds();
+
   List<CollidableComponent> getConnectors();
 
   // events
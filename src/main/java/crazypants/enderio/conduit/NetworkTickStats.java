@@ -0,0 +1,94 @@
+package crazypants.enderio.conduit;
+
+import crazypants.enderio.power.PerTickIntAverageCalculator;
+
+/**
+ * Rolling timing and throughput statistics of a single conduit network. Tick
+ * times are kept in a histogram of power-of-two microsecond buckets over the
+ * last {@link #WINDOW_TICKS} ticks.
+ */
+public class NetworkTickStats {
+
+  public static final int NUM_BUCKETS = 16;
+
+  public static final int WINDOW_TICKS = 200;
+
+  private final byte[] window = new byte[WINDOW_TICKS];
+  private final int[] buckets = new int[NUM_BUCKETS];
+  private int writeIndex;
+  private int samples;
+
+  private final PerTickIntAverageCalculator timeTracker = new PerTickIntAverageCalculator();
+
+  private final PerTickIntAverageCalculator transferTracker = new PerTickIntAverageCalculator();
+
+  private int transferredThisTick;
+
+  private long maxNanos;
+
+  void transferred(int amount) {
+    transferredThisTick += amount;
+  }
+
+  void tickCompleted(long nanos) {
+    int micros = (int) Math.min(Integer.MAX_VALUE, nanos / 1000);
+    timeTracker.tick(micros);
+    transferTracker.tick(transferredThisTick);
+    transferredThisTick = 0;
+    maxNanos = Math.max(maxNanos, nanos);
+
+    if(samples == WINDOW_TICKS) {
+      buckets[window[writeIndex]]--;
+    } else {
+      samples++;
+    }
+    int bucket = getBucket(micros);
+    window[writeIndex] = (byte) bucket;
+    buckets[bucket]++;
+    writeIndex = (writeIndex + 1) % WINDOW_TICKS;
+  }
+
+  private static int getBucket(int micros) {
+    int bucket = 32 - Integer.numberOfLeadingZeros(micros);
+    return Math.min(bucket, NUM_BUCKETS - 1);
+  }
+
+  /**
+   * Upper bound in microseconds of the given histogram bucket.
+   */
+  public static int getBucketLimit(int bucket) {
+    return 1 << bucket;
+  }
+
+  public float getAverageMicros() {
+    return timeTracker.getAverage();
+  }
+
+  public float getAverageTransferred() {
+    return transferTracker.getAverage();
+  }
+
+  public long getMaxMicros() {
+    return maxNanos / 1000;
+  }
+
+  /**
+   * Returns the upper bucket limit in microseconds below which the given
+   * fraction of the sampled ticks completed.
+   */
+  public int getPercentileMicros(float fraction) {
+    if(samples == 0) {
+      return 0;
+    }
+    int target = (int) Math.ceil(samples * fraction);
+    int count = 0;
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      count += buckets[i];
+      if(count >= target) {
+        return getBucketLimit(i);
+      }
+    }
+    return getBucketLimit(NUM_BUCKETS - 1);
+  }
+
+}
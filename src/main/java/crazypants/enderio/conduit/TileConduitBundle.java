@@ -27,6 +27,7 @@ import net.minecraft.network.NetworkManager;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
@@ -75,6 +76,8 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
 
   private final List<CollidableComponent> cachedConnectors = new ArrayList<CollidableComponent>();
 
+  private double[] cachedBounds;
+
   private boolean conduitsDirty = true;
   private boolean collidablesDirty = true;
   private boolean connectorsDirty = true;
@@ -109,6 +112,20 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
     return super.shouldRenderInPass(arg0);
   }
 
+  @Override
+  @SideOnly(Side.CLIENT)
+  public AxisAlignedBB getRenderBoundingBox() {
+    // conduits never render outside of their block, so bundles out of view can
+    // be culled
+    return AxisAlignedBB.getBoundingBox(xCoord, yCoord, zCoord, xCoord + 1, yCoord + 1, zCoord + 1);
+  }
+
+  @Override
+  @SideOnly(Side.CLIENT)
+  public double getMaxRenderDistanceSquared() {
+    return Config.conduitDynamicRenderDistance * Config.conduitDynamicRenderDistance;
+  }
+
   @Override
   public void writeCustomNBT(NBTTagCompound nbtRoot) {
     NBTTagList conduitTags = new NBTTagList();
@@ -479,6 +496,7 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
       return cachedCollidables;
     }
     cachedCollidables.clear();
+    cachedBounds = null;
     for (IConduit conduit : conduits) {
       cachedCollidables.addAll(conduit.getCollidableComponents());
     }
@@ -490,6 +508,35 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
     return cachedCollidables;
   }
 
+  @Override
+  public double[] getCollidableBounds() {
+    List<CollidableComponent> components = getCollidableComponents();
+    if(cachedBounds != null) {
+      return cachedBounds;
+    }
+    double[] res = new double[6 + components.size() * 6];
+    res[0] = res[1] = res[2] = Double.POSITIVE_INFINITY;
+    res[3] = res[4] = res[5] = Double.NEGATIVE_INFINITY;
+    int i = 6;
+    for (CollidableComponent component : components) {
+      BoundingBox bb = component.bound;
+      res[i++] = bb.minX;
+      res[i++] = bb.minY;
+      res[i++] = bb.minZ;
+      res[i++] = bb.maxX;
+      res[i++] = bb.maxY;
+      res[i++] = bb.maxZ;
+      res[0] = Math.min(res[0], bb.minX);
+      res[1] = Math.min(res[1], bb.minY);
+      res[2] = Math.min(res[2], bb.minZ);
+      res[3] = Math.max(res[3], bb.maxX);
+      res[4] = Math.max(res[4], bb.maxY);
+      res[5] = Math.max(res[5], bb.maxZ);
+    }
+    cachedBounds = res;
+    return res;
+  }
+
   @Override
   public List<CollidableComponent> getConnectors() {
     List<CollidableComponent> result = new ArrayList<CollidableComponent>();
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import net.minecraft.block.Block;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
@@ -468,6 +469,18 @@ public class ItemConduit extends AbstractConduit implements IItemConduit {
     }
   }
 
+  @Override
+  public boolean onNeighborBlockChange(Block block) {
+    // Also reached via onNeighborChange when a tile entity next to us calls
+    // markDirty, which is our signal that an inventory may have changed.
+    // Vanilla only sends that to the four horizontal neighbours, so
+    // inventories above or below aren't covered, see NetworkedInventory.
+    if(network != null && block != EnderIO.blockConduitBundle) {
+      network.inventoriesChanged(this);
+    }
+    return super.onNeighborBlockChange(block);
+  }
+
   @Override
   public IInventory getExternalInventory(ForgeDirection direction) {
     World world = getBundle().getWorld();
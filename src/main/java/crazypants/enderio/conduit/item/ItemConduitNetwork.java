@@ -2,6 +2,7 @@ package crazypants.enderio.conduit.item;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -24,6 +25,8 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
 
   final Map<BlockCoord, IItemConduit> conMap = new HashMap<BlockCoord, IItemConduit>();
 
+  final RoutingTable routes = new RoutingTable(this);
+
   private boolean requiresSort = true;
 
   private boolean doingSend = false;
@@ -40,6 +43,7 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
   public void addConduit(IItemConduit con) {
     super.addConduit(con);
     conMap.put(con.getLocation(), con);
+    topologyChanged();
 
     TileEntity te = con.getBundle().getEntity();
     if(te != null) {
@@ -52,14 +56,61 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
     }
   }
 
+  @Override
+  protected boolean isIncremental() {
+    return true;
+  }
+
+  @Override
+  protected void networkMerged(AbstractConduitNetwork<IItemConduit, IItemConduit> other) {
+    ItemConduitNetwork from = (ItemConduitNetwork) other;
+    for (NetworkedInventory inv : from.inventories) {
+      inv.network = this;
+      inventories.add(inv);
+      getOrCreate(inv.location).add(inv);
+    }
+    conMap.putAll(from.conMap);
+    from.inventories.clear();
+    from.invMap.clear();
+    from.conMap.clear();
+    if(from.database != null) {
+      from.database.resetDatabase();
+      from.database = null;
+    }
+    topologyChanged();
+  }
+
+  @Override
+  protected void conduitReleased(IItemConduit con) {
+    conMap.remove(con.getLocation());
+    topologyChanged();
+    Iterator<NetworkedInventory> iter = inventories.iterator();
+    while (iter.hasNext()) {
+      NetworkedInventory inv = iter.next();
+      if(inv.con == con) {
+        iter.remove();
+        List<NetworkedInventory> invs = invMap.get(inv.location);
+        if(invs != null) {
+          invs.remove(inv);
+        }
+        routesChanged();
+      }
+    }
+  }
+
   public void inventoryAdded(IItemConduit itemConduit, ForgeDirection direction, int x, int y, int z, IInventory externalInventory) {
     BlockCoord bc = new BlockCoord(x, y, z);
     NetworkedInventory inv = new NetworkedInventory(this, externalInventory, itemConduit, direction, bc);
     inventories.add(inv);
     getOrCreate(bc).add(inv);
-    requiresSort = true;
+    routesChanged();
   }
   
+  @Override
+  public int getEndpointCount() {
+    return inventories.size();
+  }
+
   public NetworkedInventory getInventory(IItemConduit conduit, ForgeDirection dir) {
     for(NetworkedInventory inv : inventories) {
       if(inv.con == conduit && inv.conDir == dir) {
@@ -101,13 +152,67 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
     if(remove != null) {
       invs.remove(remove);
       inventories.remove(remove);
-      requiresSort = true;
+      routesChanged();
     }
 
   }
 
+  /**
+   * Wakes the dormant extractors of the inventories next to the given conduit.
+   * If any of them can be inserted into, extractors that went dormant because
+   * all their targets were full are woken as well.
+   */
+  void inventoriesChanged(IItemConduit con) {
+    boolean targetChanged = false;
+    for (ForgeDirection dir : con.getExternalConnections()) {
+      NetworkedInventory inv = getInventory(con, dir);
+      if(inv != null) {
+        inv.wake();
+        targetChanged |= inv.canInsert();
+      }
+    }
+    if(targetChanged) {
+      for (NetworkedInventory inv : inventories) {
+        if(inv.isBlockedOnTargets()) {
+          inv.wake();
+        }
+      }
+    }
+  }
+
+  /**
+   * Items were inserted into the inventory at the given location, wake anything
+   * extracting from it.
+   */
+  void itemsInserted(BlockCoord loc) {
+    List<NetworkedInventory> invs = invMap.get(loc);
+    if(invs != null) {
+      for (NetworkedInventory inv : invs) {
+        inv.wake();
+      }
+    }
+  }
+
+  @Override
+  public void connectionsChanged() {
+    topologyChanged();
+  }
+
+  /**
+   * Filters, modes or priorities changed, the cached path distances are still
+   * valid so only the send order has to be re-sorted.
+   */
   public void routesChanged() {
     requiresSort = true;
+    // items pushed in before the next tick must not use the old filter results
+    for (NetworkedInventory ni : inventories) {
+      ni.clearTargetCache();
+    }
+  }
+
+  private void topologyChanged() {
+    routes.invalidate();
+    routesChanged();
   }
 
   public void inventoryPanelSourcesChanged() {
@@ -158,6 +263,7 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
 
         if(inv.con.getLocation().equals(itemConduit.getLocation())) {
           int numInserted = inv.insertIntoTargets(item.copy());
+          trackTransfer(numInserted);
           if(numInserted >= item.stackSize) {
             return null;
           }
@@ -210,6 +316,7 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
     for (NetworkedInventory ni : inventories) {
       if(requiresSort) {
         ni.updateInsertOrder();
+        ni.wake();
       }
       ni.onTick();
     }
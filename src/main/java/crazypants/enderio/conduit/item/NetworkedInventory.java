@@ -8,7 +8,9 @@ import java.util.Map;
 
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.util.StatCollector;
@@ -20,13 +22,19 @@ import com.enderio.core.common.util.InventoryWrapper;
 import com.enderio.core.common.util.ItemUtil;
 import com.enderio.core.common.util.RoundRobinIterator;
 
+import crazypants.enderio.EnderIO;
 import crazypants.enderio.conduit.ConnectionMode;
 import crazypants.enderio.conduit.item.filter.IItemFilter;
+import crazypants.enderio.conduit.item.filter.ItemFilter;
+import crazypants.enderio.conduit.item.filter.ModItemFilter;
+import crazypants.enderio.conduit.item.filter.PowerItemFilter;
 import crazypants.enderio.config.Config;
 import crazypants.enderio.machine.invpanel.TileInventoryPanel;
 
 public class NetworkedInventory {
 
+  private static final int MAX_CACHED_ITEMS = 256;
+
   private ISidedInventory inv;
   IItemConduit con;
   ForgeDirection conDir;
@@ -34,12 +42,27 @@ public class NetworkedInventory {
   int inventorySide;
 
   List<Target> sendPriority = new ArrayList<Target>();
-  RoundRobinIterator<Target> rrIter = new RoundRobinIterator<Target>(sendPriority);
+
+  // Subsets of sendPriority whose output filters accept an item, by item
+  // identity. Rebuilt together with sendPriority, which happens whenever
+  // filters, modes or routes change.
+  private final Map<ItemKey, FilteredTargets> targetsByItem = new HashMap<ItemKey, FilteredTargets>();
 
   private int extractFromSlot = -1;
 
   int tickDeficit;
 
+  private static final int VERTICAL_POLL_TICKS = 20;
+
+  // Set once a full pass over all slots found nothing that could be moved. A
+  // dormant inventory is only checked again when woken by a change signal or
+  // by the slow safety poll. Inventories above or below the conduit don't
+  // signal changes, so they keep being polled at the old retry rate.
+  private boolean dormant = false;
+  private boolean blockedOnTargets = false;
+  private int dormantTicks;
+  private int failedSlotChecks;
+
   //work around for a vanilla chest changing into a double chest without doing unneeded checks all the time 
   boolean recheckInv = false;
   //Hack for TiC crafting station not working correctly when setting output slot to null
@@ -107,6 +130,12 @@ public class NetworkedInventory {
   }
 
   public void onTick() {
+    if(dormant) {
+      if(--dormantTicks > 0) {
+        return;
+      }
+      dormant = false;
+    }
     if(tickDeficit > 0 || !canExtract() || !con.isExtractionRedstoneConditionMet(conDir)) {
       //do nothing     
     } else {
@@ -120,6 +149,30 @@ public class NetworkedInventory {
     }
   }
 
+  void wake() {
+    if(dormant) {
+      dormant = false;
+      tickDeficit = Math.min(tickDeficit, 0);
+    }
+  }
+
+  boolean isBlockedOnTargets() {
+    return dormant && blockedOnTargets;
+  }
+
+  private void slotChecksFailed(int numChecked, int numSlots, boolean foundExtractable) {
+    if(failedSlotChecks == 0) {
+      blockedOnTargets = false;
+    }
+    failedSlotChecks += numChecked;
+    blockedOnTargets |= foundExtractable;
+    if(failedSlotChecks >= numSlots && Config.itemConduitDormantPollTicks > 0) {
+      dormant = true;
+      dormantTicks = conDir.offsetY != 0 ? Math.min(VERTICAL_POLL_TICKS, Config.itemConduitDormantPollTicks) : Config.itemConduitDormantPollTicks;
+      failedSlotChecks = 0;
+    }
+  }
+
   private boolean canExtractThisTick(long tick) {
     if(!con.isExtractionRedstoneConditionMet(conDir)) {
       return false;
@@ -150,12 +203,23 @@ public class NetworkedInventory {
     if(slotIndices == null) {
       return false;
     }
+    if(slotIndices.length == 0) {
+      slotChecksFailed(0, 0, false);
+      return false;
+    }
     int numSlots = slotIndices.length;
     ItemStack extractItem = null;
     int maxExtracted = con.getMaximumExtracted(conDir);
 
+    // In batch mode keep pulling from further slots until the extraction limit
+    // is used up, the inventory is only marked dirty once at the end
+    boolean batch = isBatchExtract();
+    int totalExtracted = 0;
+    int lastExtractedSlot = -1;
+
     int slot = -1;
     int slotChecksPerTick = Math.min(numSlots, ItemConduitNetwork.MAX_SLOT_CHECK_PER_TICK);
+    boolean foundExtractable = false;
     for (int i = 0; i < slotChecksPerTick; i++) {
       int index = nextSlot(numSlots);
       slot = slotIndices[index];
@@ -163,16 +227,39 @@ public class NetworkedInventory {
       if(canExtractItem(item)) {
         extractItem = item.copy();
         if(getInventory().canExtractItem(slot, extractItem, inventorySide)) {
-          if(doTransfer(extractItem, slot, maxExtracted)) {
-            setNextStartingSlot(slot);
-            return true;
+          foundExtractable = true;
+          int numExtracted = doTransfer(extractItem, slot, maxExtracted - totalExtracted, !batch);
+          if(numExtracted > 0) {
+            totalExtracted += numExtracted;
+            lastExtractedSlot = slot;
+            if(!batch || totalExtracted >= maxExtracted) {
+              break;
+            }
           }
         }
       }
     }
+    if(totalExtracted > 0) {
+      if(batch) {
+        getInventory().markDirty();
+      }
+      setNextStartingSlot(lastExtractedSlot);
+      failedSlotChecks = 0;
+      extractionCompleted(totalExtracted);
+      return true;
+    }
+    slotChecksFailed(slotChecksPerTick, numSlots, foundExtractable);
     return false;
   }
 
+  private boolean isBatchExtract() {
+    if(!Config.itemConduitBatchExtraction) {
+      return false;
+    }
+    ItemStack upgrade = con.getSpeedUpgrade(conDir);
+    return upgrade != null && EnderIO.itemExtractSpeedUpgrade.getSpeedUpgrade(upgrade) == SpeedUpgrade.UPGRADE;
+  }
+
   private boolean canExtractItem(ItemStack itemStack) {
     if(itemStack == null) {
       return false;
@@ -184,41 +271,50 @@ public class NetworkedInventory {
     return filter.doesItemPassFilter(this, itemStack);
   }
 
-  private boolean doTransfer(ItemStack extractedItem, int slot, int maxExtract) {
+  private int doTransfer(ItemStack extractedItem, int slot, int maxExtract, boolean markDirty) {
     if(extractedItem == null || extractedItem.getItem() == null) {
-      return false;
+      return 0;
     }
     ItemStack toExtract = extractedItem.copy();
     toExtract.stackSize = Math.min(maxExtract, toExtract.stackSize);
     int numInserted = insertIntoTargets(toExtract);
     if(numInserted <= 0) {
-      return false;
+      return 0;
     }
-    itemExtracted(slot, numInserted);
-    return true;
-
+    removeFromSlot(slot, numInserted, markDirty);
+    con.itemsExtracted(numInserted, slot);
+    return numInserted;
   }
 
   public void itemExtracted(int slot, int numInserted) {
+    removeFromSlot(slot, numInserted, true);
+    con.itemsExtracted(numInserted, slot);
+    extractionCompleted(numInserted);
+  }
+
+  private void removeFromSlot(int slot, int num, boolean markDirty) {
     ItemStack curStack = getInventory().getStackInSlot(slot);
     if(curStack != null) {
       if(ticHack) {
-        getInventory().decrStackSize(slot, numInserted);
-        getInventory().markDirty();
+        getInventory().decrStackSize(slot, num);
       } else {
         curStack = curStack.copy();
-        curStack.stackSize -= numInserted;
+        curStack.stackSize -= num;
         if(curStack.stackSize > 0) {
           getInventory().setInventorySlotContents(slot, curStack);
-          getInventory().markDirty();          
         } else {
           getInventory().setInventorySlotContents(slot, null);
-          getInventory().markDirty();
         }
       }
+      if(markDirty) {
+        getInventory().markDirty();
+      }
     }
-    con.itemsExtracted(numInserted, slot);
-    tickDeficit = Math.round(numInserted * con.getTickTimePerItem(conDir));
+  }
+
+  private void extractionCompleted(int numExtracted) {
+    network.trackTransfer(numExtracted);
+    tickDeficit = Math.round(numExtracted * con.getTickTimePerItem(conDir));
   }
 
   int insertIntoTargets(ItemStack toExtract) {
@@ -230,7 +326,7 @@ public class NetworkedInventory {
     int leftToInsert = totalToInsert;
     boolean matchedStickyInput = false;
 
-    Iterable<Target> targets = getTargetIterator();
+    Iterable<Target> targets = getTargetIterator(toExtract);
 
     //for (Target target : sendPriority) {
     for (Target target : targets) {
@@ -242,7 +338,7 @@ public class NetworkedInventory {
         if(target.inv.recheckInv) {
           target.inv.updateInventory();
         }
-        int inserted = target.inv.insertItem(toExtract);
+        int inserted = target.inv.insertItem(toExtract, isFilterCacheable(target.inv.con.getOutputFilter(target.inv.conDir)));
         if(inserted > 0) {
           toExtract.stackSize -= inserted;
           leftToInsert -= inserted;
@@ -255,11 +351,41 @@ public class NetworkedInventory {
     return totalToInsert - leftToInsert;
   }
 
-  private Iterable<Target> getTargetIterator() {
+  private Iterable<Target> getTargetIterator(ItemStack item) {
+    FilteredTargets targets = getTargetsFor(item);
     if(con.isRoundRobinEnabled(conDir)) {
-      return rrIter;
+      return targets.rrIter;
+    }
+    return targets.targets;
+  }
+
+  private FilteredTargets getTargetsFor(ItemStack item) {
+    ItemKey key = new ItemKey(item);
+    FilteredTargets res = targetsByItem.get(key);
+    if(res == null) {
+      if(targetsByItem.size() >= MAX_CACHED_ITEMS) {
+        targetsByItem.clear();
+      }
+      List<Target> accepting = new ArrayList<Target>(sendPriority.size());
+      for (Target target : sendPriority) {
+        IItemFilter filter = target.inv.con.getOutputFilter(target.inv.conDir);
+        if(filter == null || !isFilterCacheable(filter) || filter.doesItemPassFilter(target.inv, item)) {
+          accepting.add(target);
+        }
+      }
+      res = new FilteredTargets(accepting);
+      targetsByItem.put(key.copy(), res);
     }
-    return sendPriority;
+    return res;
+  }
+
+  /**
+   * Filters whose result only depends on the item, its damage and NBT can be
+   * evaluated once per item type. Filters that look at the attached inventory
+   * have to be checked on every insert.
+   */
+  private static boolean isFilterCacheable(IItemFilter filter) {
+    return filter == null || filter instanceof ItemFilter || filter instanceof ModItemFilter || filter instanceof PowerItemFilter;
   }
 
   public final void updateInventory() {
@@ -271,104 +397,49 @@ public class NetworkedInventory {
     }
   }
 
-  private int insertItem(ItemStack item) {
+  private int insertItem(ItemStack item, boolean filterChecked) {
     if(!canInsert() || item == null) {
       return 0;
     }
     IItemFilter filter = con.getOutputFilter(conDir);
-    if(filter != null) {
+    if(filter != null && !filterChecked) {
       if(!filter.doesItemPassFilter(this, item)) {
         return 0;
       }
     }
-    return ItemUtil.doInsertItem(getInventory(), item, ForgeDirection.values()[inventorySide]);
+    int inserted = ItemUtil.doInsertItem(getInventory(), item, ForgeDirection.values()[inventorySide]);
+    if(inserted > 0) {
+      network.itemsInserted(location);
+    }
+    return inserted;
+  }
+
+  void clearTargetCache() {
+    targetsByItem.clear();
   }
 
   void updateInsertOrder() {
     sendPriority.clear();
+    targetsByItem.clear();
     if(!canExtract()) {
       return;
     }
-    List<Target> result = new ArrayList<NetworkedInventory.Target>();
 
     for (NetworkedInventory other : network.inventories) {
       if((con.isSelfFeedEnabled(conDir) || (other != this))
           && other.canInsert()
           && con.getInputColor(conDir) == other.con.getOutputColor(other.conDir)) {
 
+        int distance;
         if(Config.itemConduitUsePhyscialDistance) {
-          sendPriority.add(new Target(other, distanceTo(other), other.isSticky(), other.getPriority()));
-        } else {
-          result.add(new Target(other, 9999999, other.isSticky(), other.getPriority()));
-        }
-      }
-    }
-
-    if(Config.itemConduitUsePhyscialDistance) {
-      Collections.sort(sendPriority);
-    } else {
-      if(!result.isEmpty()) {
-        Map<BlockCoord, Integer> visited = new HashMap<BlockCoord, Integer>();
-        List<BlockCoord> steps = new ArrayList<BlockCoord>();
-        steps.add(con.getLocation());
-        calculateDistances(result, visited, steps, 0);
-
-        sendPriority.addAll(result);
-
-        Collections.sort(sendPriority);
-      }
-    }
-
-  }
-
-  private void calculateDistances(List<Target> targets, Map<BlockCoord, Integer> visited, List<BlockCoord> steps, int distance) {
-    if(steps == null || steps.isEmpty()) {
-      return;
-    }
-
-    ArrayList<BlockCoord> nextSteps = new ArrayList<BlockCoord>();
-    for (BlockCoord bc : steps) {
-      IItemConduit con = network.conMap.get(bc);
-      if(con != null) {
-        for (ForgeDirection dir : con.getExternalConnections()) {
-          Target target = getTarget(targets, con, dir);
-          if(target != null && target.distance > distance) {
-            target.distance = distance;
-          }
-        }
-
-        if(!visited.containsKey(bc)) {
-          visited.put(bc, distance);
+          distance = distanceTo(other);
         } else {
-          int prevDist = visited.get(bc);
-          if(prevDist <= distance) {
-            continue;
-          }
-          visited.put(bc, distance);
-        }
-
-        for (ForgeDirection dir : con.getConduitConnections()) {
-          nextSteps.add(bc.getLocation(dir));
+          distance = network.routes.getDistance(con, other.con);
         }
+        sendPriority.add(new Target(other, distance, other.isSticky(), other.getPriority()));
       }
     }
-    calculateDistances(targets, visited, nextSteps, distance + 1);
-  }
-
-  private Target getTarget(List<Target> targets, IItemConduit con, ForgeDirection dir) {
-    if(targets == null || con == null || con.getLocation() == null) {
-      return null;
-    }
-    for (Target target : targets) {
-      BlockCoord targetConLoc = null;
-      if(target != null && target.inv != null && target.inv.con != null) {
-        targetConLoc = target.inv.con.getLocation();
-      }
-      if(targetConLoc != null && target.inv.conDir == dir && targetConLoc.equals(con.getLocation())) {
-        return target;
-      }
-    }
-    return null;
+    Collections.sort(sendPriority);
   }
 
   private int distanceTo(NetworkedInventory other) {
@@ -405,6 +476,71 @@ public class NetworkedInventory {
     }
   }
 
+  private static class FilteredTargets {
+
+    final List<Target> targets;
+    final RoundRobinIterator<Target> rrIter;
+
+    FilteredTargets(List<Target> targets) {
+      this.targets = targets;
+      rrIter = new RoundRobinIterator<Target>(targets);
+    }
+
+  }
+
+  private static class ItemKey {
+
+    final Item item;
+    final int damage;
+    final NBTTagCompound nbt;
+    final int hash;
+
+    ItemKey(ItemStack stack) {
+      this(stack.getItem(), stack.getItemDamage(), stack.getTagCompound());
+    }
+
+    private ItemKey(Item item, int damage, NBTTagCompound nbt) {
+      this.item = item;
+      this.damage = damage;
+      this.nbt = nbt;
+      final int prime = 31;
+      int result = 1;
+      result = prime * result + System.identityHashCode(item);
+      result = prime * result + damage;
+      result = prime * result + ((nbt == null) ? 0 : nbt.hashCode());
+      hash = result;
+    }
+
+    /**
+     * Returns a key that doesn't share the NBT of the stack it was created
+     * from, so it stays valid if the stack's NBT is changed in place.
+     */
+    ItemKey copy() {
+      return nbt == null ? this : new ItemKey(item, damage, (NBTTagCompound) nbt.copy());
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(this == obj) {
+        return true;
+      }
+      if(!(obj instanceof ItemKey)) {
+        return false;
+      }
+      ItemKey other = (ItemKey) obj;
+      if(item != other.item || damage != other.damage) {
+        return false;
+      }
+      return nbt == null ? other.nbt == null : nbt.equals(other.nbt);
+    }
+
+  }
+
   static class Target implements Comparable<Target> {
     NetworkedInventory inv;
     int distance;
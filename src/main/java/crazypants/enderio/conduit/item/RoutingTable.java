@@ -0,0 +1,83 @@
+package crazypants.enderio.conduit.item;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import net.minecraftforge.common.util.ForgeDirection;
+
+import com.enderio.core.common.util.BlockCoord;
+
+/**
+ * Caches conduit path distances between the conduits of an item network that
+ * have external connections. Distances only depend on how the conduits are
+ * connected, so changes to filters, modes, colours or priorities re-use them
+ * and only the send order of the inventories has to be re-sorted. The cache is
+ * cleared when the conduit graph changes.
+ */
+class RoutingTable {
+
+  static final int UNREACHABLE = 9999999;
+
+  private final ItemConduitNetwork network;
+
+  private final Map<IItemConduit, Map<IItemConduit, Integer>> distances = new IdentityHashMap<IItemConduit, Map<IItemConduit, Integer>>();
+
+  RoutingTable(ItemConduitNetwork network) {
+    this.network = network;
+  }
+
+  void invalidate() {
+    distances.clear();
+  }
+
+  int getDistance(IItemConduit from, IItemConduit to) {
+    Map<IItemConduit, Integer> fromDist = distances.get(from);
+    if(fromDist == null) {
+      fromDist = flood(from);
+    }
+    Integer res = fromDist.get(to);
+    if(res == null) {
+      // 'to' got its first external connection after the distances from
+      // 'from' were calculated. Paths are symmetric so a single flood from 'to'
+      // is enough to patch the table.
+      Map<IItemConduit, Integer> toDist = distances.get(to);
+      if(toDist == null || !toDist.containsKey(from)) {
+        toDist = flood(to);
+      }
+      res = toDist.get(from);
+      if(res == null) {
+        res = UNREACHABLE;
+      }
+      fromDist.put(to, res);
+    }
+    return res;
+  }
+
+  private Map<IItemConduit, Integer> flood(IItemConduit from) {
+    Map<IItemConduit, Integer> result = new IdentityHashMap<IItemConduit, Integer>();
+    Map<IItemConduit, Integer> visited = new IdentityHashMap<IItemConduit, Integer>();
+    Deque<IItemConduit> toVisit = new ArrayDeque<IItemConduit>();
+    visited.put(from, 0);
+    toVisit.add(from);
+    while (!toVisit.isEmpty()) {
+      IItemConduit con = toVisit.poll();
+      int distance = visited.get(con);
+      if(!con.getExternalConnections().isEmpty()) {
+        result.put(con, distance);
+      }
+      BlockCoord loc = con.getLocation();
+      for (ForgeDirection dir : con.getConduitConnections()) {
+        IItemConduit next = network.conMap.get(loc.getLocation(dir));
+        if(next != null && !visited.containsKey(next)) {
+          visited.put(next, distance + 1);
+          toVisit.add(next);
+        }
+      }
+    }
+    distances.put(from, result);
+    return result;
+  }
+
+}
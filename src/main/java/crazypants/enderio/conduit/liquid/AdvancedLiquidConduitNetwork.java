@@ -48,6 +48,11 @@ public class AdvancedLiquidConduitNetwork extends AbstractTankConduitNetwork<Adv
     super.addConduit(con);
   }
 
+  @Override
+  public int getEndpointCount() {
+    return outputs.size();
+  }
+
   @Override
   public boolean setFluidType(FluidStack newType) {
     if(super.setFluidType(newType)) {
@@ -121,7 +126,7 @@ public class AdvancedLiquidConduitNetwork extends AbstractTankConduitNetwork<Adv
           int filled = cont.fill(output.dir, offer, true);
           if(filled > 0) {
             tank.addAmount(-filled);
-
+            trackTransfer(filled);
           }
         }
       }
@@ -137,6 +137,7 @@ public class EnderLiquidConduit extends AbstractLiquidConduit {
     } else {
       outputFilters.put(dir, filter);
     }
+    refreshConnections(dir);
   }
 
   @Override
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 
 import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTankInfo;
 import net.minecraftforge.fluids.IFluidHandler;
@@ -27,6 +28,13 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
 
   Map<NetworkTank, RoundRobinIterator<NetworkTank>> iterators;
 
+  // Output tanks whose filter accepts a fluid, built on demand and cleared
+  // whenever a connection or filter changes
+  private final Map<Fluid, FluidTargets> targetsByFluid = new HashMap<Fluid, FluidTargets>();
+
+  // How long a tank that refused a fluid is skipped for that fluid
+  private static final int REJECTED_RETRY_TICKS = 10;
+
   boolean filling;
 
   public EnderLiquidConduitNetwork() {
@@ -40,6 +48,12 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
     tankMap.remove(key);
     tanks.add(tank);
     tankMap.put(key, tank);
+    targetsByFluid.clear();
+  }
+
+  @Override
+  public int getEndpointCount() {
+    return tanks.size();
   }
 
   public boolean extractFrom(EnderLiquidConduit con, ForgeDirection conDir) {
@@ -59,6 +73,7 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
     if(drained == null || drained.amount <= 0) {
       return false;
     }
+    trackTransfer(drained.amount);
     //    if(drained.amount != amountAccepted) {
     //      Log.warn("EnderLiquidConduit.extractFrom: Extracted fluid volume is not equal to inserted volume. Drained=" + drained.amount + " filled="
     //          + amountAccepted + " Fluid: " + drained + " Accepted=" + amountAccepted);
@@ -91,11 +106,19 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
       resource.amount = Math.min(resource.amount, MAX_IO_PER_TICK);
       int filled = 0;
       int remaining = resource.amount;
+      long now = tank.con.getBundle().getWorld().getTotalWorldTime();
       //TODO: Only change starting pos of iterator is doFill is true so a false then true returns the same
 
-      for (NetworkTank target : getIteratorForTank(tank)) {
-        if(!target.equals(tank) && target.acceptsOuput && target.isValid() && matchedFilter(resource, target.con, target.conDir, false)) {
+      FluidTargets targets = getTargets(resource);
+      Iterable<NetworkTank> iter = targets != null ? targets.getIteratorForTank(tank) : getIteratorForTank(tank);
+      for (NetworkTank target : iter) {
+        if(!target.equals(tank) && target.isValid() && !target.isRejecting(resource.getFluid(), now)
+            && (targets != null || (target.acceptsOuput && matchedFilter(resource, target.con, target.conDir, false)))) {
           int vol = target.externalTank.fill(target.tankDir, resource.copy(), doFill);
+          if(vol <= 0 && doFill) {
+            // only real fills count, so simulating one doesn't block the tank
+            target.rejected(resource.getFluid(), now + REJECTED_RETRY_TICKS);
+          }
           remaining -= vol;
           filled += vol;
           if(remaining <= 0) {
@@ -122,6 +145,29 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
     return filter.matchesFilter(drained);
   }
 
+  /**
+   * Returns the output tanks that accept the given fluid, or null if the fluid
+   * can't be indexed because it carries NBT data that filters compare.
+   */
+  private FluidTargets getTargets(FluidStack resource) {
+    if(resource.tag != null || resource.getFluid() == null) {
+      return null;
+    }
+    Fluid fluid = resource.getFluid();
+    FluidTargets res = targetsByFluid.get(fluid);
+    if(res == null) {
+      List<NetworkTank> accepting = new ArrayList<NetworkTank>();
+      for (NetworkTank target : tanks) {
+        if(target.acceptsOuput && matchedFilter(resource, target.con, target.conDir, false)) {
+          accepting.add(target);
+        }
+      }
+      res = new FluidTargets(accepting);
+      targetsByFluid.put(fluid, res);
+    }
+    return res;
+  }
+
   private Iterable<NetworkTank> getIteratorForTank(NetworkTank tank) {
     if(iterators == null) {
       iterators = new HashMap<NetworkTank, RoundRobinIterator<NetworkTank>>();
@@ -150,6 +196,26 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
     return res.toArray(new FluidTankInfo[res.size()]);
   }
 
+  private static class FluidTargets {
+
+    final List<NetworkTank> tanks;
+    final Map<NetworkTank, RoundRobinIterator<NetworkTank>> iterators = new HashMap<NetworkTank, RoundRobinIterator<NetworkTank>>();
+
+    FluidTargets(List<NetworkTank> tanks) {
+      this.tanks = tanks;
+    }
+
+    Iterable<NetworkTank> getIteratorForTank(NetworkTank tank) {
+      RoundRobinIterator<NetworkTank> res = iterators.get(tank);
+      if(res == null) {
+        res = new RoundRobinIterator<NetworkTank>(tanks);
+        iterators.put(tank, res);
+      }
+      return res;
+    }
+
+  }
+
   static class NetworkTankKey {
 
     ForgeDirection conDir;
@@ -209,6 +275,9 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
     BlockCoord conduitLoc;
     boolean acceptsOuput;
 
+    Fluid rejectedFluid;
+    long rejectedUntil;
+
     public NetworkTank(EnderLiquidConduit con, ForgeDirection conDir) {
       this.con = con;
       this.conDir = conDir;
@@ -222,6 +291,15 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
       return externalTank != null && con.getConnectionMode(conDir) != ConnectionMode.DISABLED;
     }
 
+    boolean isRejecting(Fluid fluid, long now) {
+      return fluid == rejectedFluid && now < rejectedUntil;
+    }
+
+    void rejected(Fluid fluid, long until) {
+      rejectedFluid = fluid;
+      rejectedUntil = until;
+    }
+
     @Override
     public int hashCode() {
       final int prime = 31;
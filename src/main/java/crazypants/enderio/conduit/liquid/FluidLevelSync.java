@@ -0,0 +1,112 @@
+package crazypants.enderio.conduit.liquid;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+
+import com.enderio.core.common.util.BlockCoord;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.PlayerEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import crazypants.enderio.network.PacketHandler;
+
+/**
+ * Sends the fill levels of fluid conduits to the players near them. The
+ * changes of all fluid networks are merged into a single
+ * {@link PacketFluidLevel} per player, which is sent at most once every
+ * {@link #SYNC_INTERVAL} ticks. Players are spread out over the interval so
+ * they don't all get their updates on the same tick.
+ */
+public class FluidLevelSync {
+
+  public static final FluidLevelSync instance = new FluidLevelSync();
+
+  static {
+    FMLCommonHandler.instance().bus().register(FluidLevelSync.instance);
+  }
+
+  private static final int SYNC_INTERVAL = 4;
+
+  private static final int SYNC_RANGE_SQ = 64 * 64;
+
+  // conduits that changed this tick
+  private final Map<World, Set<LiquidConduit>> changed = new HashMap<World, Set<LiquidConduit>>();
+
+  // conduits each player hasn't been sent yet
+  private final Map<EntityPlayerMP, Set<LiquidConduit>> pending = new HashMap<EntityPlayerMP, Set<LiquidConduit>>();
+
+  private FluidLevelSync() {
+  }
+
+  void levelChanged(LiquidConduit con) {
+    World world = con.getBundle().getWorld();
+    Set<LiquidConduit> cons = changed.get(world);
+    if(cons == null) {
+      cons = Collections.newSetFromMap(new IdentityHashMap<LiquidConduit, Boolean>());
+      changed.put(world, cons);
+    }
+    cons.add(con);
+  }
+
+  @SubscribeEvent
+  public void onServerTick(TickEvent.ServerTickEvent event) {
+    if(event.phase != TickEvent.Phase.END) {
+      return;
+    }
+    for (Map.Entry<World, Set<LiquidConduit>> entry : changed.entrySet()) {
+      for (Object obj : entry.getKey().playerEntities) {
+        if(obj instanceof EntityPlayerMP) {
+          addInRange((EntityPlayerMP) obj, entry.getValue());
+        }
+      }
+    }
+    changed.clear();
+
+    int tick = MinecraftServer.getServer().getTickCounter();
+    Iterator<Map.Entry<EntityPlayerMP, Set<LiquidConduit>>> iter = pending.entrySet().iterator();
+    while (iter.hasNext()) {
+      Map.Entry<EntityPlayerMP, Set<LiquidConduit>> entry = iter.next();
+      EntityPlayerMP player = entry.getKey();
+      if((tick + player.getEntityId()) % SYNC_INTERVAL == 0) {
+        PacketHandler.sendTo(new PacketFluidLevel(entry.getValue()), player);
+        iter.remove();
+      }
+    }
+  }
+
+  private void addInRange(EntityPlayerMP player, Set<LiquidConduit> cons) {
+    Set<LiquidConduit> toSend = pending.get(player);
+    for (LiquidConduit con : cons) {
+      BlockCoord bc = con.getLocation();
+      if(player.getDistanceSq(bc.x + 0.5, bc.y + 0.5, bc.z + 0.5) <= SYNC_RANGE_SQ) {
+        if(toSend == null) {
+          toSend = new LinkedHashSet<LiquidConduit>();
+          pending.put(player, toSend);
+        }
+        toSend.add(con);
+      }
+    }
+  }
+
+  @SubscribeEvent
+  public void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+    pending.remove(event.player);
+  }
+
+  @SubscribeEvent
+  public void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+    // the client has dropped the conduits of the old world
+    pending.remove(event.player);
+  }
+
+}
@@ -20,7 +20,6 @@ import net.minecraftforge.fluids.IFluidHandler;
 import com.enderio.core.client.render.IconUtil;
 import com.enderio.core.common.util.BlockCoord;
 
-import cpw.mods.fml.common.network.NetworkRegistry.TargetPoint;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import crazypants.enderio.EnderIO;
@@ -30,7 +29,6 @@ import crazypants.enderio.conduit.ConnectionMode;
 import crazypants.enderio.conduit.IConduit;
 import crazypants.enderio.conduit.geom.CollidableComponent;
 import crazypants.enderio.config.Config;
-import crazypants.enderio.network.PacketHandler;
 
 public class LiquidConduit extends AbstractTankConduit {
 
@@ -71,7 +69,7 @@ public class LiquidConduit extends AbstractTankConduit {
 
   private LiquidConduitNetwork network;
 
-  private float lastSyncRatio = -99;
+  private int lastSyncLevel = -1;
 
   private int currentPushToken;
 
@@ -100,15 +98,27 @@ public class LiquidConduit extends AbstractTankConduit {
     if(stateDirty) {
       getBundle().dirty();
       stateDirty = false;
-      lastSyncRatio = tank.getFilledRatio();
-
-    } else if((lastSyncRatio != tank.getFilledRatio() && world.getTotalWorldTime() % 2 == 0)) {
+      lastSyncLevel = PacketFluidLevel.getLevel(tank);
+
+    } else if(network != null && world.getTotalWorldTime() % 2 == 0) {
+      //we don't want to trigger a full chunk update, the network batches the
+      //new levels of all its conduits into a single packet for the renderer
+      int level = PacketFluidLevel.getLevel(tank);
+      if(level != lastSyncLevel) {
+        network.levelChanged(this);
+        lastSyncLevel = level;
+      }
+    }
+  }
 
-      //need to send a custom packet as we don't want want to trigger a full chunk update, just
-      //need to get the required  values to the entity renderer
-      BlockCoord loc = getLocation();
-      PacketHandler.INSTANCE.sendToAllAround(new PacketFluidLevel(this), new TargetPoint(world.provider.dimensionId, loc.x, loc.y, loc.z, 64));
-      lastSyncRatio = tank.getFilledRatio();
+  /**
+   * Sets the fill level shown on the client from a {@link PacketFluidLevel}.
+   */
+  public void setRenderedLevel(Fluid fluid, float ratio) {
+    if(fluid == null) {
+      tank.setLiquid(null);
+    } else {
+      tank.setLiquid(new FluidStack(fluid, Math.round(ratio * tank.getCapacity())));
     }
   }
 
@@ -145,7 +155,12 @@ public class LiquidConduit extends AbstractTankConduit {
 
           FluidStack couldDrain = extTank.drain(dir.getOpposite(), MAX_EXTRACT_PER_TICK, false);
           if(couldDrain != null && couldDrain.amount > 0 && canFill(dir, couldDrain.getFluid())) {
-            int used = pushLiquid(dir, couldDrain, true, network == null ? -1 : network.getNextPushToken());
+            int used;
+            if(network != null && network.isPooled()) {
+              used = network.fillPool(couldDrain, true);
+            } else {
+              used = pushLiquid(dir, couldDrain, true, network == null ? -1 : network.getNextPushToken());
+            }
             extTank.drain(dir.getOpposite(), used, true);
             if(used > 0 && network != null && network.getFluidType() == null) {
               network.setFluidType(couldDrain);
@@ -182,7 +197,12 @@ public class LiquidConduit extends AbstractTankConduit {
         filledFromThisTick.add(getLocation().getLocation(from));
       }
       try {
-        int res = fill(from, resource, doFill, true, network == null ? -1 : network.getNextPushToken());
+        int res;
+        if(network.isPooled()) {
+          res = network.fillPool(resource, doFill);
+        } else {
+          res = fill(from, resource, doFill, true, network == null ? -1 : network.getNextPushToken());
+        }
         if(doFill && externalConnections.contains(from) && network != null) {
           network.addedFromExternal(res);
         }
@@ -294,6 +314,9 @@ public class LiquidConduit extends AbstractTankConduit {
     if(getConnectionMode(from) == ConnectionMode.INPUT || getConnectionMode(from) == ConnectionMode.DISABLED) {
       return null;
     }
+    if(network != null && network.isPooled()) {
+      return network.drainPool(maxDrain, doDrain);
+    }
     return tank.drain(maxDrain, doDrain);
   }
 
@@ -339,6 +362,9 @@ public class LiquidConduit extends AbstractTankConduit {
   public void connectionsChanged() {
     super.connectionsChanged();
     updateTank();
+    if(network != null) {
+      network.endpointsChanged();
+    }
   }
 
   @Override
@@ -421,6 +447,9 @@ public class LiquidConduit extends AbstractTankConduit {
   protected void updateTank() {
     int totalConnections = getConduitConnections().size() + getExternalConnections().size();
     tank.setCapacity(totalConnections * VOLUME_PER_CONNECTION);
+    if(network != null) {
+      network.updateConduitVolumes();
+    }
   }
 
   @Override
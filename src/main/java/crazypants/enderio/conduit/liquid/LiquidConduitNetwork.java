@@ -12,6 +12,7 @@ import net.minecraftforge.fluids.IFluidHandler;
 import com.enderio.core.common.util.BlockCoord;
 
 import crazypants.enderio.conduit.ConduitUtil;
+import crazypants.enderio.config.Config;
 
 public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidConduit> {
 
@@ -34,6 +35,19 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
 
   private boolean inputLocked = false;
 
+  // With pooled flow the fluid of the whole network is held in one tank and
+  // handed to the outputs directly. The conduit tanks are only updated from it
+  // for rendering and saving.
+  private final boolean pooled = Config.fluidConduitPooledFlow;
+
+  private final ConduitTank pool = new ConduitTank(0);
+
+  private List<PooledOutput> pooledOutputs;
+
+  private int nextOutput;
+
+  private int lastSyncedVolume = -1;
+
   public boolean lockNetworkForFill() {
     if(inputLocked) {
       return false;
@@ -46,6 +60,57 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
     inputLocked = false;
   }
 
+  @Override
+  public void addConduit(LiquidConduit con) {
+    if(pooled) {
+      pool.setCapacity(pool.getCapacity() + con.getTank().getCapacity());
+      if(con.getTank().containsValidLiquid()) {
+        pool.addAmount(con.getTank().getFluidAmount());
+      }
+      pooledOutputs = null;
+    }
+    super.addConduit(con);
+  }
+
+  @Override
+  public void destroyNetwork() {
+    if(pooled) {
+      setConduitVolumes();
+    }
+    super.destroyNetwork();
+  }
+
+  @Override
+  public boolean setFluidType(FluidStack newType) {
+    if(super.setFluidType(newType)) {
+      if(pooled) {
+        FluidStack ft = getFluidType();
+        pool.setLiquid(ft == null ? null : ft.copy());
+      }
+      return true;
+    }
+    return false;
+  }
+
+  boolean isPooled() {
+    return pooled;
+  }
+
+  /**
+   * Called when the connections or capacity of one of the conduits changed.
+   */
+  void endpointsChanged() {
+    if(!pooled) {
+      return;
+    }
+    pooledOutputs = null;
+    int capacity = 0;
+    for (LiquidConduit con : conduits) {
+      capacity += con.getTank().getCapacity();
+    }
+    pool.setCapacity(capacity);
+  }
+
   @Override
   public void doNetworkTick() {
     List<LiquidConduit> cons = getConduits();
@@ -53,6 +118,11 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
       return;
     }
 
+    if(pooled) {
+      doPooledTick();
+      return;
+    }
+
     if(isEmpty()) {
       if(!fluidTypeLocked && liquidType != null) {
         ticksEmpty++;
@@ -81,18 +151,133 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
     }
   }
 
+  void levelChanged(LiquidConduit con) {
+    FluidLevelSync.instance.levelChanged(con);
+  }
+
   void addedFromExternal(int res) {
     inputVolume += res;
   }
 
   void outputedToExternal(int filled) {
     outputVolume += filled;
+    trackTransfer(filled);
   }
 
   int getNextPushToken() {
     return ++lastPushToken;
   }
 
+  private void doPooledTick() {
+    if(!pool.containsValidLiquid() || pool.isEmpty()) {
+      if(!fluidTypeLocked && liquidType != null) {
+        ticksEmpty++;
+        if(ticksEmpty > 40) {
+          setFluidType(null);
+          ticksEmpty = 0;
+        }
+      }
+      updateConduitVolumes();
+      return;
+    }
+    ticksEmpty = 0;
+
+    List<PooledOutput> outputs = getPooledOutputs();
+    for (int i = 0; i < outputs.size() && !pool.isEmpty(); i++) {
+      if(nextOutput >= outputs.size()) {
+        nextOutput = 0;
+      }
+      PooledOutput output = outputs.get(nextOutput++);
+      if(!output.con.canOutputToDir(output.dir)) {
+        continue;
+      }
+      IFluidHandler externalTank = output.con.getExternalHandler(output.dir);
+      if(externalTank == null) {
+        continue;
+      }
+      FluidStack offer = pool.getFluid().copy();
+      offer.amount = Math.min(offer.amount, LiquidConduit.MAX_IO_PER_TICK);
+      int filled = externalTank.fill(output.dir.getOpposite(), offer, true);
+      if(filled > 0) {
+        pool.addAmount(-filled);
+        outputedToExternal(filled);
+      }
+    }
+
+    // conduits only need their levels for rendering, so don't update them
+    // every tick
+    if(conduits.get(0).getBundle().getWorld().getTotalWorldTime() % 10 == 0) {
+      updateConduitVolumes();
+    }
+  }
+
+  private List<PooledOutput> getPooledOutputs() {
+    if(pooledOutputs == null) {
+      pooledOutputs = new ArrayList<PooledOutput>();
+      for (LiquidConduit con : conduits) {
+        for (ForgeDirection dir : con.getExternalConnections()) {
+          if(con.getConnectionMode(dir).acceptsOutput()) {
+            pooledOutputs.add(new PooledOutput(con, dir));
+          }
+        }
+      }
+    }
+    return pooledOutputs;
+  }
+
+  int fillPool(FluidStack resource, boolean doFill) {
+    if(resource == null || !canAcceptLiquid(resource)) {
+      return 0;
+    }
+    resource = resource.copy();
+    resource.amount = Math.min(resource.amount, LiquidConduit.MAX_IO_PER_TICK);
+    boolean liquidWasValid = pool.containsValidLiquid();
+    int res = pool.fill(resource, doFill);
+    if(doFill && res > 0 && !liquidWasValid) {
+      int vol = pool.getFluidAmount();
+      setFluidType(resource);
+      pool.setAmount(vol);
+    }
+    return res;
+  }
+
+  FluidStack drainPool(int maxDrain, boolean doDrain) {
+    if(pool.isEmpty() || !pool.containsValidLiquid()) {
+      return null;
+    }
+    return pool.drain(Math.min(maxDrain, LiquidConduit.MAX_IO_PER_TICK), doDrain);
+  }
+
+  void updateConduitVolumes() {
+    if(!pooled || pool.getFluidAmount() == lastSyncedVolume) {
+      return;
+    }
+    setConduitVolumes();
+    lastSyncedVolume = pool.getFluidAmount();
+  }
+
+  private void setConduitVolumes() {
+    if(conduits.isEmpty() || pool.getCapacity() <= 0) {
+      return;
+    }
+    FluidStack fluid = pool.containsValidLiquid() ? pool.getFluid() : null;
+    int remaining = fluid == null ? 0 : fluid.amount;
+    for (LiquidConduit con : conduits) {
+      ConduitTank tank = con.getTank();
+      if(fluid == null) {
+        tank.setAmount(0);
+        continue;
+      }
+      // ceil so the rounding doesn't lose any fluid
+      int amount = (int) Math.ceil((double) fluid.amount * tank.getCapacity() / pool.getCapacity());
+      amount = Math.min(Math.min(amount, remaining), tank.getCapacity());
+      FluidStack f = fluid.copy();
+      f.amount = amount;
+      tank.setLiquid(f);
+      remaining -= amount;
+    }
+  }
+
   private boolean doFlow() {
 
     int pushToken = getNextPushToken();
@@ -160,6 +345,9 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
   }
 
   private boolean isEmpty() {
+    if(pooled) {
+      return pool.isEmpty();
+    }
     for (LiquidConduit con : conduits) {
       if(con.tank.getFluidAmount() > 0) {
         return false;
@@ -352,6 +540,16 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
 
   }
 
+  private static class PooledOutput {
+    final LiquidConduit con;
+    final ForgeDirection dir;
+
+    PooledOutput(LiquidConduit con, ForgeDirection dir) {
+      this.con = con;
+      this.dir = dir;
+    }
+  }
+
   static class LocatedFluidHandler {
     final IFluidHandler tank;
     final BlockCoord bc;
@@ -1,46 +1,118 @@
 package crazypants.enderio.conduit.liquid;
 
 import io.netty.buffer.ByteBuf;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
 
-import com.enderio.core.common.network.MessageTileEntity;
+import java.util.Collection;
+
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import com.enderio.core.common.util.BlockCoord;
 
 import cpw.mods.fml.common.network.ByteBufUtils;
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
 import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
 import cpw.mods.fml.common.network.simpleimpl.MessageContext;
-import crazypants.util.ClientUtil;
+import crazypants.enderio.EnderIO;
+import crazypants.enderio.conduit.ConduitUtil;
+
+/**
+ * Fill levels of the fluid conduits near a player that changed since the last
+ * update, see {@link FluidLevelSync}. Levels are quantised to
+ * {@link #LEVEL_STEPS} as finer changes aren't visible, and positions are
+ * written as deltas to the previous conduit.
+ */
+public class PacketFluidLevel implements IMessage, IMessageHandler<PacketFluidLevel, IMessage> {
 
-public class PacketFluidLevel extends MessageTileEntity<TileEntity> implements IMessageHandler<PacketFluidLevel, IMessage>{
+  public static final int LEVEL_STEPS = 32;
 
-  public NBTTagCompound tc;
+  private int[] fluidIds;
+  private int[] coords;
+  private byte[] levels;
 
   public PacketFluidLevel() {
   }
 
-  public PacketFluidLevel(ILiquidConduit conduit) {
-    super(conduit.getBundle().getEntity());
-    tc = new NBTTagCompound();
-    conduit.writeToNBT(tc);
+  public PacketFluidLevel(Collection<LiquidConduit> conduits) {
+    fluidIds = new int[conduits.size()];
+    coords = new int[conduits.size() * 3];
+    levels = new byte[conduits.size()];
+    int i = 0;
+    for (LiquidConduit con : conduits) {
+      BlockCoord bc = con.getLocation();
+      coords[i * 3] = bc.x;
+      coords[i * 3 + 1] = bc.y;
+      coords[i * 3 + 2] = bc.z;
+      levels[i] = (byte) getLevel(con.getTank());
+      FluidStack fluid = con.getFluidType();
+      fluidIds[i] = fluid == null || fluid.getFluid() == null ? -1 : fluid.getFluid().getID();
+      i++;
+    }
+  }
+
+  static int getLevel(ConduitTank tank) {
+    float ratio = tank.getFilledRatio();
+    if(ratio <= 0) {
+      return 0;
+    }
+    // never round a conduit with fluid in it down to empty
+    return MathHelper.clamp_int((int) Math.ceil(ratio * LEVEL_STEPS), 1, LEVEL_STEPS);
   }
 
   @Override
   public void toBytes(ByteBuf buf) {
-    super.toBytes(buf);
-    ByteBufUtils.writeTag(buf, tc);
+    ByteBufUtils.writeVarInt(buf, levels.length, 5);
+    for (int id : fluidIds) {
+      // fluid ids are small, so this is mostly a byte each
+      ByteBufUtils.writeVarInt(buf, id + 1, 5);
+    }
+    for (int i = 0; i < coords.length; i++) {
+      int prev = i < 3 ? 0 : coords[i - 3];
+      ByteBufUtils.writeVarInt(buf, zigZag(coords[i] - prev), 5);
+    }
+    buf.writeBytes(levels);
   }
 
   @Override
   public void fromBytes(ByteBuf buf) {
-    super.fromBytes(buf);
-    tc = ByteBufUtils.readTag(buf);
+    int count = ByteBufUtils.readVarInt(buf, 5);
+    fluidIds = new int[count];
+    for (int i = 0; i < count; i++) {
+      fluidIds[i] = ByteBufUtils.readVarInt(buf, 5) - 1;
+    }
+    coords = new int[count * 3];
+    for (int i = 0; i < coords.length; i++) {
+      int prev = i < 3 ? 0 : coords[i - 3];
+      coords[i] = prev + unZigZag(ByteBufUtils.readVarInt(buf, 5));
+    }
+    levels = new byte[count];
+    buf.readBytes(levels);
+  }
+
+  private static int zigZag(int val) {
+    return (val << 1) ^ (val >> 31);
+  }
+
+  private static int unZigZag(int val) {
+    return (val >>> 1) ^ -(val & 1);
   }
 
-  
   @Override
   public IMessage onMessage(PacketFluidLevel message, MessageContext ctx) {
-      ClientUtil.doFluidLevelUpdate(message.x, message.y, message.z, message);
+    World world = EnderIO.proxy.getClientWorld();
+    if(world == null) {
       return null;
+    }
+    for (int i = 0; i < message.levels.length; i++) {
+      Fluid fluid = message.fluidIds[i] < 0 ? null : FluidRegistry.getFluid(message.fluidIds[i]);
+      ILiquidConduit con = ConduitUtil.getConduit(world, message.coords[i * 3], message.coords[i * 3 + 1], message.coords[i * 3 + 2], ILiquidConduit.class);
+      if(con instanceof LiquidConduit) {
+        ((LiquidConduit) con).setRenderedLevel(fluid, (float) message.levels[i] / LEVEL_STEPS);
+      }
+    }
+    return null;
   }
 }
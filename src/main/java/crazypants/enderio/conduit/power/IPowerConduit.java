@@ -31,9 +31,6 @@ public interface IPowerConduit extends IConduit, IInternalPowerHandler, IExtract
 
   IIcon getTextureForOutputMode();
 
-  //called from NetworkPowerManager
-  void onTick();
-  
   boolean getConnectionsDirty();
 
 
@@ -22,6 +22,8 @@ public class NetworkPowerManager {
 
   private final PowerConduitNetwork network;
 
+  // The energy of the network is held here, conduits only report their share
+  // of it. Capacity is updated as conduits attach and detach.
   int maxEnergyStored;
   int energyStored;
 
@@ -41,9 +43,11 @@ public class NetworkPowerManager {
 
   private final CapBankSupply capSupply = new CapBankSupply();
 
+  private final World world;
+
   public NetworkPowerManager(PowerConduitNetwork netowrk, World world) {
     network = netowrk;
-    maxEnergyStored = 64;
+    this.world = world;
   }
 
   public PowerTracker getTracker(IPowerConduit conduit) {
@@ -127,12 +131,16 @@ public class NetworkPowerManager {
 
   public void doApplyRecievedPower() {
 
-    trackerStartTick();
-
     checkReceptors();
 
-    // Update our energy stored based on what's in our conduits
-    updateNetorkStorage();
+    if(receptors.isEmpty() && storageReceptors.isEmpty()) {
+      // nothing to exchange power with, leave the buffer as it is
+      networkPowerTracker.tickStart(energyStored);
+      networkPowerTracker.tickEnd(energyStored);
+      return;
+    }
+
+    trackerStartTick();
     networkPowerTracker.tickStart(energyStored);
 
     capSupply.init();
@@ -142,12 +150,13 @@ public class NetworkPowerManager {
     int available = energyStored + capSupply.canExtract;
     int wasAvailable = available;
 
-    if(available <= 0 || (receptors.isEmpty() && storageReceptors.isEmpty())) {
+    if(available <= 0) {
       trackerEndTick();
       networkPowerTracker.tickEnd(energyStored);
       return;
     }
 
+    long now = world.getTotalWorldTime();
     while (available > 0 && appliedCount < numReceptors) {
 
       if(!receptors.isEmpty() && !receptorIterator.hasNext()) {
@@ -155,20 +164,25 @@ public class NetworkPowerManager {
       }
       ReceptorEntry r = receptorIterator.next();
       IPowerInterface pp = r.powerInterface;
-      if(pp != null) {
+      // receptors that are backing off are skipped until their time is up
+      if(pp != null && r.sleepUntil <= now) {
         int canOffer = Math.min(r.emmiter.getMaxEnergyExtracted(r.direction), available);
-        int used = pp.recieveEnergy(r.direction.getOpposite(), canOffer);
-        used = Math.max(0, used);
-        trackerSend(r.emmiter, used, false);
-        available -= used;
-        if(available <= 0) {
-          break;
+        if(canOffer > 0) {
+          int used = pp.recieveEnergy(r.direction.getOpposite(), canOffer);
+          used = Math.max(0, used);
+          updateBackoff(r, used, now);
+          trackerSend(r.emmiter, used, false);
+          available -= used;
+          if(available <= 0) {
+            break;
+          }
         }
       }
       appliedCount++;
     }
 
     int used = wasAvailable - available;
+    network.trackTransfer(used);
     // use all the capacator storage first
     energyStored -= used;
 
@@ -193,13 +207,35 @@ public class NetworkPowerManager {
       capSupply.balance();
     }
 
-    distributeStorageToConduits();
+    energyStored = MathHelper.clamp_int(energyStored, 0, maxEnergyStored);
 
     trackerEndTick();
 
     networkPowerTracker.tickEnd(energyStored);
   }
 
+  private static void updateBackoff(ReceptorEntry r, int used, long now) {
+    if(used > 0 || Config.powerConduitMaxReceptorBackoffTicks <= 0) {
+      r.backoffTicks = 0;
+    } else {
+      r.backoffTicks = Math.min(Math.max(1, r.backoffTicks * 2), Config.powerConduitMaxReceptorBackoffTicks);
+      r.sleepUntil = now + r.backoffTicks;
+    }
+  }
+
+  /**
+   * Offers power to the receptors next to the given conduit again on the next
+   * tick, even if they are backing off.
+   */
+  void wakeReceptors(IPowerConduit con) {
+    for (ReceptorEntry r : network.getPowerReceptors()) {
+      if(r.emmiter == con) {
+        r.backoffTicks = 0;
+        r.sleepUntil = 0;
+      }
+    }
+  }
+
   private void trackerStartTick() {
 
     if(!Config.detailedPowerTrackingEnabled) {
@@ -254,48 +290,50 @@ public class NetworkPowerManager {
     return result;
   }
 
-  private void distributeStorageToConduits() {
+  boolean isActive() {
+    return energyStored > 0;
+  }
+
+  /**
+   * Returns the share of the network buffer held by the given conduit, in
+   * proportion to its capacity.
+   */
+  int getEnergyStored(IPowerConduit con) {
     if(maxEnergyStored <= 0 || energyStored <= 0) {
-      for (IPowerConduit con : network.getConduits()) {
-        con.setEnergyStored(0);
-      }
-      return;
+      return 0;
     }
-    energyStored = MathHelper.clamp_int(energyStored, 0, maxEnergyStored);
+    int share = (int) ((long) energyStored * con.getMaxEnergyStored() / maxEnergyStored);
+    return Math.min(share, con.getMaxEnergyStored());
+  }
 
-    float filledRatio = (float) energyStored / maxEnergyStored;
-    int energyLeft = energyStored;
-    int given = 0;
-    for (IPowerConduit con : network.getConduits()) {
-      if(energyLeft > 0) {
-        // NB: use ceil to ensure we dont through away any energy due to
-        // rounding
-        // errors
-        int give = (int) Math.ceil(con.getMaxEnergyStored() * filledRatio);
-        give = Math.min(give, con.getMaxEnergyStored());
-        give = Math.min(give, energyLeft);
-        con.setEnergyStored(give);
-        given += give;
-        energyLeft -= give;
-      } else {
-        con.setEnergyStored(0);
-      }
-    }
+  int getFreeSpace() {
+    return Math.max(0, maxEnergyStored - energyStored);
   }
 
-  boolean isActive() {
-    return energyStored > 0;
+  void addEnergy(int amount) {
+    energyStored = MathHelper.clamp_int(energyStored + amount, 0, maxEnergyStored);
   }
 
-  private void updateNetorkStorage() {
-    maxEnergyStored = 0;
-    energyStored = 0;
-    for (IPowerConduit con : network.getConduits()) {
-      maxEnergyStored += con.getMaxEnergyStored();
-      con.onTick();
-      energyStored += con.getEnergyStored();
-    }
+  void conduitAttached(IPowerConduit con, int stored) {
+    maxEnergyStored += con.getMaxEnergyStored();
+    addEnergy(stored);
+  }
+
+  /**
+   * Removes the conduit's capacity from the buffer and returns its share of
+   * the energy, which it keeps while it is not part of a network.
+   */
+  int conduitDetached(IPowerConduit con) {
+    int share = getEnergyStored(con);
+    energyStored -= share;
+    maxEnergyStored = Math.max(0, maxEnergyStored - con.getMaxEnergyStored());
     energyStored = MathHelper.clamp_int(energyStored, 0, maxEnergyStored);
+    return share;
+  }
+
+  void conduitRemoved(IPowerConduit con) {
+    powerTrackers.remove(con);
+    receptorsDirty = true;
   }
 
   public void receptorsChanged() {
@@ -216,7 +216,7 @@ public class PowerConduit extends AbstractConduit implements IPowerConduit {
   public void writeToNBT(NBTTagCompound nbtRoot) {
     super.writeToNBT(nbtRoot);
     nbtRoot.setShort("subtype", (short) subtype);
-    nbtRoot.setInteger("energyStoredRF", energyStoredRF);
+    nbtRoot.setInteger("energyStoredRF", getEnergyStored());
 
     for (Entry<ForgeDirection, RedstoneControlMode> entry : rsModes.entrySet()) {
       if(entry.getValue() != null) {
@@ -262,18 +262,28 @@ public class PowerConduit extends AbstractConduit implements IPowerConduit {
     }
   }
 
-  @Override
-  public void onTick() {   
+  private NetworkPowerManager getPowerManager() {
+    return network == null ? null : network.powerManager;
   }
 
   @Override
   public int getEnergyStored() {
+    NetworkPowerManager pm = getPowerManager();
+    if(pm != null) {
+      return pm.getEnergyStored(this);
+    }
     return energyStoredRF;
   }
 
   @Override
   public void setEnergyStored(int energyStored) {
-    energyStoredRF = MathHelper.clamp_int(energyStored, 0, getMaxEnergyStored());     
+    energyStored = MathHelper.clamp_int(energyStored, 0, getMaxEnergyStored());
+    NetworkPowerManager pm = getPowerManager();
+    if(pm != null) {
+      pm.addEnergy(energyStored - pm.getEnergyStored(this));
+    } else {
+      energyStoredRF = energyStored;
+    }
   }
 
  
@@ -357,6 +367,7 @@ public class PowerConduit extends AbstractConduit implements IPowerConduit {
     redstoneStateDirty = true;
     if(network != null && network.powerManager != null) {
       network.powerManager.receptorsChanged();
+      network.powerManager.wakeReceptors(this);
     }
     return super.onNeighborBlockChange(blockId);
   }
@@ -372,10 +383,18 @@ public class PowerConduit extends AbstractConduit implements IPowerConduit {
     if(getMaxEnergyRecieved(from) == 0 || maxReceive <= 0) {
       return 0;
     }
+    NetworkPowerManager pm = getPowerManager();
     int freeSpace = getMaxEnergyStored() - getEnergyStored();
+    if(pm != null) {
+      freeSpace = Math.min(freeSpace, pm.getFreeSpace());
+    }
     int result = (int) Math.min(maxReceive, freeSpace);
     if(!simulate && result > 0) {
-      setEnergyStored(getEnergyStored() + result);      
+      if(pm != null) {
+        pm.addEnergy(result);
+      } else {
+        setEnergyStored(getEnergyStored() + result);
+      }
 
       if(getBundle() != null) {
         if(recievedTicks == null) {
@@ -415,7 +434,16 @@ public class PowerConduit extends AbstractConduit implements IPowerConduit {
 
   @Override
   public boolean setNetwork(AbstractConduitNetwork<?, ?> network) {
+    NetworkPowerManager pm = getPowerManager();
+    if(pm != null) {
+      energyStoredRF = pm.conduitDetached(this);
+    }
     this.network = (PowerConduitNetwork) network;
+    pm = getPowerManager();
+    if(pm != null) {
+      pm.conduitAttached(this, energyStoredRF);
+      energyStoredRF = 0;
+    }
     return true;
   }
 
@@ -3,6 +3,7 @@ package crazypants.enderio.conduit.power;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,8 +32,9 @@ public class PowerConduitNetwork extends AbstractConduitNetwork<IPowerConduit, I
 
   @Override
   public void init(IConduitBundle tile, Collection<IPowerConduit> connections, World world) {
-    super.init(tile, connections, world);
+    // created first so conduits can hand their energy over as they are added
     powerManager = new NetworkPowerManager(this, world);
+    super.init(tile, connections, world);
     powerManager.receptorsChanged();
   }
 
@@ -47,6 +49,38 @@ public class PowerConduitNetwork extends AbstractConduitNetwork<IPowerConduit, I
     super.destroyNetwork();
   }
 
+  @Override
+  protected boolean isIncremental() {
+    return true;
+  }
+
+  @Override
+  protected void networkMerged(AbstractConduitNetwork<IPowerConduit, IPowerConduit> other) {
+    PowerConduitNetwork from = (PowerConduitNetwork) other;
+    powerReceptors.putAll(from.powerReceptors);
+    from.powerReceptors.clear();
+    if(powerManager != null) {
+      for (IPowerConduit con : from.conduits) {
+        con.setActive(powerManager.isActive());
+      }
+      powerManager.receptorsChanged();
+    }
+  }
+
+  @Override
+  protected void conduitReleased(IPowerConduit con) {
+    Iterator<ReceptorEntry> iter = powerReceptors.values().iterator();
+    while (iter.hasNext()) {
+      if(iter.next().emmiter == con) {
+        iter.remove();
+      }
+    }
+    con.setActive(false);
+    if(powerManager != null) {
+      powerManager.conduitRemoved(con);
+    }
+  }
+
   public NetworkPowerManager getPowerManager() {
     return powerManager;
   }
@@ -101,11 +135,22 @@ public class PowerConduitNetwork extends AbstractConduitNetwork<IPowerConduit, I
     return powerReceptors.values();
   }
 
+  @Override
+  public int getEndpointCount() {
+    return powerReceptors.size();
+  }
+
   @Override
   public void doNetworkTick() {
     powerManager.applyRecievedPower();
   }
 
+  @Override
+  public boolean isTimeSensitive() {
+    // machines fed by the network would stall on a deferred tick
+    return true;
+  }
+
   public static class ReceptorEntry {
 
     IPowerConduit emmiter;
@@ -114,6 +159,11 @@ public class PowerConduitNetwork extends AbstractConduitNetwork<IPowerConduit, I
 
     IPowerInterface powerInterface;
 
+    // back-off state for receptors that did not accept any power
+    int backoffTicks;
+    // world tick until which the receptor isn't offered any power
+    long sleepUntil;
+
     public ReceptorEntry(IPowerInterface powerReceptor, BlockCoord coord, IPowerConduit emmiter, ForgeDirection direction) {
       powerInterface = powerReceptor;
       this.coord = coord;
@@ -1,10 +1,10 @@
 package crazypants.enderio.conduit.redstone;
 
-import java.util.Set;
-
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
-import net.minecraftforge.common.util.ForgeDirection;
+
+import com.enderio.core.common.util.DyeColor;
+
 import crazypants.enderio.conduit.IConduitBundle;
 import dan200.computercraft.api.ComputerCraftAPI;
 import dan200.computercraft.api.redstone.IBundledRedstoneProvider;
@@ -18,12 +18,10 @@ public class ConduitBundledRedstoneProvider implements IBundledRedstoneProvider
       IConduitBundle bundle = ((IConduitBundle) inputTE);
       if (bundle.hasType(IInsulatedRedstoneConduit.class)) {
         IInsulatedRedstoneConduit conduit = bundle.getConduit(IInsulatedRedstoneConduit.class);
-        Set<Signal> networkOutputs = conduit.getNetworkOutputs(ForgeDirection.UNKNOWN);
         int out = 0;
-        for (Signal signal : networkOutputs) {
-          int index = signal.color.ordinal();
-          if (signal.strength != 0) {
-            out |= (1 << 15 - index);
+        for (DyeColor color : DyeColor.values()) {
+          if (conduit.getNetworkSignalStrength(color) != 0) {
+            out |= (1 << 15 - color.ordinal());
           }
         }
         return out;
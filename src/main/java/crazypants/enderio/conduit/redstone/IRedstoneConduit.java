@@ -28,6 +28,8 @@ public interface IRedstoneConduit extends IConduit {
 
   Set<Signal> getNetworkOutputs(ForgeDirection side);
 
+  int getNetworkSignalStrength(DyeColor color);
+
   DyeColor getSignalColor(ForgeDirection dir);
 
   void updateNetwork();
@@ -445,6 +445,11 @@ public class InsulatedRedstoneConduit extends RedstoneConduit implements IInsula
     return result;
   }
 
+  @Override
+  protected int getNetworkOutputStrength(ForgeDirection side) {
+    return network.getSignalStrength(getSignalColor(side));
+  }
+
   @Override
   public ConnectionMode getConnectionMode(ForgeDirection dir) {
     ConnectionMode res = conectionModes.get(dir);
@@ -198,6 +198,18 @@ public class RedstoneConduit extends AbstractConduit implements IRedstoneConduit
     return network.getSignals();
   }
 
+  @Override
+  public int getNetworkSignalStrength(DyeColor color) {
+    if(network == null) {
+      return 0;
+    }
+    return network.getSignalStrength(color);
+  }
+
+  protected int getNetworkOutputStrength(ForgeDirection side) {
+    return network.getMaxSignalStrength();
+  }
+
   @Override
   public boolean onNeighborBlockChange(Block blockId) {    
     World world = getBundle().getEntity().getWorldObj();
@@ -270,11 +282,7 @@ public class RedstoneConduit extends AbstractConduit implements IRedstoneConduit
     if(network == null || !network.isNetworkEnabled()) {
       return 0;
     }
-    int result = 0;
-    for (Signal signal : getNetworkOutputs(toDirection.getOpposite())) {
-      result = Math.max(result, signal.strength);
-    }
-    return result;
+    return getNetworkOutputStrength(toDirection.getOpposite());
   }
 
   @Override
@@ -1,9 +1,11 @@
 package crazypants.enderio.conduit.redstone;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 
@@ -12,6 +14,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 
 import com.enderio.core.common.util.BlockCoord;
+import com.enderio.core.common.util.DyeColor;
 import com.google.common.collect.Sets;
 
 import crazypants.enderio.EnderIO;
@@ -22,6 +25,25 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
 
   private final Set<Signal> signals = new HashSet<Signal>();
 
+  // number of signals with a strength above 0, the network is shown as active
+  // while there are any
+  private int activeSignals;
+
+  private boolean active;
+
+  // strongest signal of each colour. A colour is recalculated on the next read
+  // once its strongest signal has been removed.
+  private final int[] strengths = new int[DyeColor.values().length];
+
+  private int dirtyStrengths;
+
+  // conduits whose neighbours have to be notified of changed signals. All
+  // changes made by one call, e.g. adding all the signals of a new conduit, are
+  // collected and each block is notified once before the call returns.
+  private final Set<IRedstoneConduit> pendingNotifications = Collections.newSetFromMap(new IdentityHashMap<IRedstoneConduit, Boolean>());
+
+  private int batchDepth;
+
   boolean updatingNetwork = false;
 
   private boolean networkEnabled = true;
@@ -32,10 +54,15 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
 
   @Override
   public void init(IConduitBundle tile, Collection<IRedstoneConduit> connections, World world) {
+    beginBatch();
     super.init(tile, connections, world);
-    updatingNetwork = true;
     notifyNeigborsOfSignals();
-    updatingNetwork = false;
+    endBatch();
+  }
+
+  @Override
+  public boolean isTimeSensitive() {
+    return true;
   }
 
   @Override
@@ -45,10 +72,15 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
       con.setActive(false);
     }
     // Notify neighbours that all signals have been lost
-    List<Signal> copy = new ArrayList<Signal>(signals);
+    boolean hadSignals = !signals.isEmpty();
     signals.clear();
-    for (Signal s : copy) {
-      notifyNeigborsOfSignalUpdate(s);
+    activeSignals = 0;
+    active = false;
+    Arrays.fill(strengths, 0);
+    dirtyStrengths = 0;
+    pendingNotifications.clear();
+    if(hadSignals) {
+      notifyNeighbours(new ArrayList<IRedstoneConduit>(conduits));
     }
     updatingNetwork = false;
     super.destroyNetwork();
@@ -56,19 +88,84 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
 
   @Override
   public void addConduit(IRedstoneConduit con) {
+    beginBatch();
     updatingNetwork = true;
     super.addConduit(con);
     Set<Signal> newInputs = con.getNetworkInputs();
-    signals.addAll(newInputs);
-    // Notify existing nodes of new signals
     for (Signal signal : newInputs) {
-      notifyNeigborsOfSignalUpdate(signal);
+      trackSignal(signal);
     }
-    // and new nodes neighbours of all signals
-    for (Signal signal : signals) {
-      notifyConduitNeighbours(con, signal);
+    updateActiveState();
+    con.setActive(active);
+    if(!newInputs.isEmpty()) {
+      // Notify existing nodes of new signals
+      notifyNeigborsOfSignals();
+    } else if(!signals.isEmpty()) {
+      // and new nodes neighbours of all signals
+      pendingNotifications.add(con);
     }
     updatingNetwork = false;
+    endBatch();
+  }
+
+  private boolean trackSignal(Signal signal) {
+    if(!signals.add(signal)) {
+      return false;
+    }
+    if(signal.strength > 0) {
+      activeSignals++;
+    }
+    int col = signal.color.ordinal();
+    if(signal.strength > strengths[col]) {
+      strengths[col] = signal.strength;
+    }
+    return true;
+  }
+
+  private boolean untrackSignal(Signal signal) {
+    if(!signals.remove(signal)) {
+      return false;
+    }
+    if(signal.strength > 0) {
+      activeSignals--;
+    }
+    int col = signal.color.ordinal();
+    if(signal.strength >= strengths[col]) {
+      dirtyStrengths |= 1 << col;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the strength of the strongest signal of the given colour.
+   */
+  public int getSignalStrength(DyeColor color) {
+    if(!networkEnabled) {
+      return 0;
+    }
+    int col = color.ordinal();
+    if((dirtyStrengths & (1 << col)) != 0) {
+      int max = 0;
+      for (Signal s : signals) {
+        if(s.color == color && s.strength > max) {
+          max = s.strength;
+        }
+      }
+      strengths[col] = max;
+      dirtyStrengths &= ~(1 << col);
+    }
+    return strengths[col];
+  }
+
+  /**
+   * Returns the strength of the strongest signal of any colour.
+   */
+  public int getMaxSignalStrength() {
+    int result = 0;
+    for (DyeColor color : DyeColor.values()) {
+      result = Math.max(result, getSignalStrength(color));
+    }
+    return result;
   }
 
   public Set<Signal> getSignals() {
@@ -91,56 +188,86 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
   }
 
   public void addSignals(Set<Signal> newSignals) {
+    beginBatch();
     for (Signal signal : newSignals) {
       addSignal(signal);
     }
+    endBatch();
   }
 
   public void addSignal(Signal signal) {
-    updatingNetwork = true;
-    signals.add(signal);
-    notifyNetworkOfUpdate();
-    notifyNeigborsOfSignalUpdate(signal);
-    updatingNetwork = false;
+    if(trackSignal(signal)) {
+      updateActiveState();
+      notifyNeigborsOfSignalUpdate(signal);
+    }
   }
 
   public void removeSignals(Set<Signal> remove) {
+    beginBatch();
     for (Signal signal : remove) {
       removeSignal(signal);
     }
+    endBatch();
   }
 
   public void removeSignal(Signal signal) {
-    updatingNetwork = true;
-    signals.remove(signal);
-    notifyNetworkOfUpdate();
-    notifyNeigborsOfSignalUpdate(signal);
-    updatingNetwork = false;
+    if(untrackSignal(signal)) {
+      updateActiveState();
+      notifyNeigborsOfSignalUpdate(signal);
+    }
   }
 
   public void replaceSignal(Signal oldSig, Signal newSig) {
-    updatingNetwork = true;
-    signals.remove(oldSig);
-    signals.add(newSig);
-    notifyNetworkOfUpdate();
-    notifyNeigborsOfSignalUpdate(newSig);
-    updatingNetwork = false;
+    boolean changed = untrackSignal(oldSig);
+    changed |= trackSignal(newSig);
+    if(changed) {
+      updateActiveState();
+      notifyNeigborsOfSignalUpdate(newSig);
+    }
+  }
+
+  /**
+   * Updates the active state of the conduits if it changed. Conduits only send
+   * their state to clients when it actually changed.
+   */
+  private void updateActiveState() {
+    boolean nowActive = activeSignals > 0;
+    if(nowActive != active) {
+      active = nowActive;
+      for (IRedstoneConduit con : conduits) {
+        con.setActive(active);
+      }
+    }
   }
 
   @Override
   public void notifyNetworkOfUpdate() {
     for (IRedstoneConduit con : conduits) {
-      con.setActive(false);
-      for (Signal s : getSignals()) {
-        if (s.strength > 0) {
-          con.setActive(true);
-          break;
-        }
-      }
+      con.setActive(active);
     }
     super.notifyNetworkOfUpdate();
   }
 
+  private void beginBatch() {
+    batchDepth++;
+  }
+
+  /**
+   * Notifies the neighbours of the pending conduits once the outermost call
+   * that changed signals is done.
+   */
+  private void endBatch() {
+    if(--batchDepth > 0 || pendingNotifications.isEmpty()) {
+      return;
+    }
+    List<IRedstoneConduit> toNotify = new ArrayList<IRedstoneConduit>(pendingNotifications);
+    pendingNotifications.clear();
+    boolean wasUpdating = updatingNetwork;
+    updatingNetwork = true;
+    notifyNeighbours(toNotify);
+    updatingNetwork = wasUpdating;
+  }
+
   @Override
   public String toString() {
     return "RedstoneConduitNetwork [signals=" + signalsString() + ", conduits=" + conduitsString() + "]";
@@ -167,19 +294,27 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
   }
 
   public void notifyNeigborsOfSignals() {
-    for (Signal signal : signals) {
-      notifyNeigborsOfSignalUpdate(signal);
+    if(!signals.isEmpty()) {
+      beginBatch();
+      pendingNotifications.addAll(conduits);
+      endBatch();
     }
   }
 
   public void notifyNeigborsOfSignalUpdate(Signal signal) {
-    ArrayList<IRedstoneConduit> conduitsCopy = new ArrayList<IRedstoneConduit>(conduits);
-    for (IRedstoneConduit con : conduitsCopy) {
-      notifyConduitNeighbours(con, signal);
+    beginBatch();
+    pendingNotifications.addAll(conduits);
+    endBatch();
+  }
+
+  private void notifyNeighbours(List<IRedstoneConduit> toNotify) {
+    Set<BlockCoord> notified = new HashSet<BlockCoord>();
+    for (IRedstoneConduit con : toNotify) {
+      notifyConduitNeighbours(con, notified);
     }
   }
 
-  private void notifyConduitNeighbours(IRedstoneConduit con, Signal signal) {
+  private void notifyConduitNeighbours(IRedstoneConduit con, Set<BlockCoord> notified) {
     if (con.getBundle() == null) {
       System.out.println("RedstoneConduitNetwork.notifyNeigborsOfSignalUpdate: NULL BUNDLE!!!!");
       return;
@@ -198,11 +333,13 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
     for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
       BlockCoord bc2 = bc1.getLocation(dir);
       if (worldObj.blockExists(bc2.x, bc2.y, bc2.z)) {
-        worldObj.notifyBlockOfNeighborChange(bc2.x, bc2.y, bc2.z, EnderIO.blockConduitBundle);
-        if (signal != null && bc2.getBlock(worldObj).isNormalCube()) {
+        if (notified.add(bc2)) {
+          worldObj.notifyBlockOfNeighborChange(bc2.x, bc2.y, bc2.z, EnderIO.blockConduitBundle);
+        }
+        if (bc2.getBlock(worldObj).isNormalCube()) {
           for (ForgeDirection dir2 : ForgeDirection.VALID_DIRECTIONS) {
             BlockCoord bc3 = bc2.getLocation(dir2);
-            if (!bc3.equals(bc1) && worldObj.blockExists(bc3.x, bc3.y, bc3.z)) {
+            if (!bc3.equals(bc1) && worldObj.blockExists(bc3.x, bc3.y, bc3.z) && notified.add(bc3)) {
               worldObj.notifyBlockOfNeighborChange(bc3.x, bc3.y, bc3.z, EnderIO.blockConduitBundle);
             }
           }
@@ -227,7 +364,7 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
       }
       BlockCoord loc = c.getLocation();
       if (world.blockExists(loc.x, loc.y, loc.z)) {
-        this.conduits.add(c);
+        trackConduit(c);
         c.setNetwork(this);
       }
     }
@@ -10,7 +10,10 @@ import net.minecraft.block.Block;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.EntityClientPlayerMP;
 import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.client.renderer.OpenGlHelper;
 import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.culling.Frustrum;
+import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
 import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
 import net.minecraft.init.Blocks;
 import net.minecraft.tileentity.TileEntity;
@@ -33,6 +36,9 @@ import com.enderio.core.common.util.IBlockAccessWrapper;
 import com.google.common.collect.Lists;
 
 import cpw.mods.fml.client.registry.ISimpleBlockRenderingHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import crazypants.enderio.EnderIO;
@@ -55,55 +61,117 @@ import crazypants.util.RenderPassHelper;
 @SideOnly(Side.CLIENT)
 public class ConduitBundleRenderer extends TileEntitySpecialRenderer implements ISimpleBlockRenderingHandler {
 
+  // Bundles with dynamic conduits that passed the tile entity culling this
+  // frame. They are drawn in a single batch together with the last bundle the
+  // tile entity dispatcher renders, so they are still drawn before translucent
+  // blocks like water and glass.
+  private final List<DynamicBundle> dynamicBundles = new ArrayList<DynamicBundle>();
+
+  // the last bundle the dispatcher renders this frame, looked up when the first
+  // bundle of the frame is rendered
+  private TileEntity lastBundle;
+  private boolean lastBundleFound;
+
   public ConduitBundleRenderer(float conduitScale) {
   }
 
+  @SubscribeEvent
+  public void onRenderTick(TickEvent.RenderTickEvent event) {
+    if(event.phase == Phase.START) {
+      // drop anything that wasn't drawn last frame
+      dynamicBundles.clear();
+      lastBundle = null;
+      lastBundleFound = false;
+    }
+  }
+
   @Override
   public void renderTileEntityAt(TileEntity te, double x, double y, double z, float partialTick) {
+    if(!lastBundleFound) {
+      lastBundle = findLastBundle();
+      lastBundleFound = true;
+    }
+
     IConduitBundle bundle = (IConduitBundle) te;
     EntityClientPlayerMP player = Minecraft.getMinecraft().thePlayer;
-    if(bundle.hasFacade() && bundle.getFacadeId().isOpaqueCube() && !ConduitUtil.isFacadeHidden(bundle, player)) {
-      return;
+    if(!bundle.hasFacade() || !bundle.getFacadeId().isOpaqueCube() || ConduitUtil.isFacadeHidden(bundle, player)) {
+      for (IConduit con : bundle.getConduits()) {
+        if(ConduitUtil.renderConduit(player, con) && EnderIO.proxy.getRendererForConduit(con).isDynamic()) {
+          // keep the lightmap coordinates the dispatcher has set for this bundle
+          int brightness = (int) OpenGlHelper.lastBrightnessY << 16 | (int) OpenGlHelper.lastBrightnessX;
+          dynamicBundles.add(new DynamicBundle(bundle, x, y, z, partialTick, brightness));
+          break;
+        }
+      }
     }
 
-    float brightness = -1;
-    for (IConduit con : bundle.getConduits()) {
-      if(ConduitUtil.renderConduit(player, con)) {
-        ConduitRenderer renderer = EnderIO.proxy.getRendererForConduit(con);
-        if(renderer.isDynamic()) {
-          if(brightness == -1) {
-            BlockCoord loc = bundle.getLocation();
-            brightness = bundle.getEntity().getWorldObj().getLightBrightnessForSkyBlocks(loc.x, loc.y, loc.z, 0);
-
-            RenderUtil.bindBlockTexture();
-
-            GL11.glPushAttrib(GL11.GL_ENABLE_BIT);
-            GL11.glPushAttrib(GL11.GL_LIGHTING_BIT);
-            GL11.glEnable(GL12.GL_RESCALE_NORMAL);
-            GL11.glEnable(GL11.GL_BLEND);
-            GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
-            GL11.glShadeModel(GL11.GL_SMOOTH);
-
-            GL11.glPushMatrix();
-            GL11.glTranslated(x, y, z);
-
-            Tessellator.instance.startDrawingQuads();
-          }
-          renderer.renderDynamicEntity(this, bundle, con, x, y, z, partialTick, brightness);
+    if(te == lastBundle) {
+      renderDynamicBundles();
+    }
+  }
 
+  /**
+   * Finds the last bundle that passes the same checks the world renderer and
+   * the tile entity dispatcher use for the render pass.
+   */
+  private TileEntity findLastBundle() {
+    double px = TileEntityRendererDispatcher.staticPlayerX;
+    double py = TileEntityRendererDispatcher.staticPlayerY;
+    double pz = TileEntityRendererDispatcher.staticPlayerZ;
+    Frustrum frustrum = new Frustrum();
+    frustrum.setPosition(px, py, pz);
+    int pass = MinecraftForgeClient.getRenderPass();
+    List<?> tileEntities = Minecraft.getMinecraft().renderGlobal.tileEntities;
+    for (int i = tileEntities.size() - 1; i >= 0; i--) {
+      Object obj = tileEntities.get(i);
+      if(obj instanceof TileConduitBundle) {
+        TileEntity te = (TileEntity) obj;
+        if(te.shouldRenderInPass(pass) && frustrum.isBoundingBoxInFrustum(te.getRenderBoundingBox())
+            && te.getDistanceFrom(px, py, pz) < te.getMaxRenderDistanceSquared()) {
+          return te;
         }
       }
     }
+    return null;
+  }
 
-    if(brightness != -1) {
-      Tessellator.instance.draw();
+  private void renderDynamicBundles() {
+    if(dynamicBundles.isEmpty()) {
+      return;
+    }
+    EntityClientPlayerMP player = Minecraft.getMinecraft().thePlayer;
+    Tessellator tessellator = Tessellator.instance;
 
-      GL11.glShadeModel(GL11.GL_FLAT);
-      GL11.glPopMatrix();
-      GL11.glPopAttrib();
-      GL11.glPopAttrib();
+    RenderUtil.bindBlockTexture();
+
+    GL11.glPushAttrib(GL11.GL_ENABLE_BIT);
+    GL11.glPushAttrib(GL11.GL_LIGHTING_BIT);
+    GL11.glEnable(GL12.GL_RESCALE_NORMAL);
+    GL11.glEnable(GL11.GL_BLEND);
+    GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+    GL11.glShadeModel(GL11.GL_SMOOTH);
+
+    tessellator.startDrawingQuads();
+    for (DynamicBundle db : dynamicBundles) {
+      IConduitBundle bundle = db.bundle;
+      tessellator.setTranslation(db.x, db.y, db.z);
+      tessellator.setBrightness(db.brightness);
+      for (IConduit con : bundle.getConduits()) {
+        if(ConduitUtil.renderConduit(player, con)) {
+          ConduitRenderer renderer = EnderIO.proxy.getRendererForConduit(con);
+          if(renderer.isDynamic()) {
+            renderer.renderDynamicEntity(this, bundle, con, db.x, db.y, db.z, db.partialTick, db.brightness);
+          }
+        }
+      }
     }
+    tessellator.setTranslation(0, 0, 0);
+    tessellator.draw();
+    dynamicBundles.clear();
 
+    GL11.glShadeModel(GL11.GL_FLAT);
+    GL11.glPopAttrib();
+    GL11.glPopAttrib();
   }
 
   @Override
@@ -294,6 +362,24 @@ public class ConduitBundleRenderer extends TileEntitySpecialRenderer implements
     return BlockConduitBundle.rendererId;
   }
 
+  private static class DynamicBundle {
+
+    final IConduitBundle bundle;
+    final double x, y, z;
+    final float partialTick;
+    final int brightness;
+
+    DynamicBundle(IConduitBundle bundle, double x, double y, double z, float partialTick, int brightness) {
+      this.bundle = bundle;
+      this.x = x;
+      this.y = y;
+      this.z = z;
+      this.partialTick = partialTick;
+      this.brightness = brightness;
+    }
+
+  }
+
   public static class FacadeAccessWrapper extends IBlockAccessWrapper {
 
     public FacadeAccessWrapper(IBlockAccess ba) {
@@ -113,11 +113,18 @@ public final class Config {
 
   public static boolean detailedPowerTrackingEnabled = false;
 
+  public static int conduitNetworkTickBudgetMicros = 0;
+  public static boolean conduitNetworkProfilingEnabled = false;
+
+  public static boolean machineSleepEnabled = true;
+
   public static boolean useSneakMouseWheelYetaWrench = true;
   public static boolean useSneakRightClickYetaWrench = false;
   public static int     yetaWrenchOverlayMode = 0;
   
   public static boolean itemConduitUsePhyscialDistance = false;
+  public static int itemConduitDormantPollTicks = 100;
+  public static boolean itemConduitBatchExtraction = true;
 
   public static int enderFluidConduitExtractRate = 200;
   public static int enderFluidConduitMaxIoRate = 800;
@@ -125,11 +132,13 @@ public final class Config {
   public static int advancedFluidConduitMaxIoRate = 400;
   public static int fluidConduitExtractRate = 50;
   public static int fluidConduitMaxIoRate = 200;
+  public static boolean fluidConduitPooledFlow = false;
 
   public static int gasConduitExtractRate = 200;
   public static int gasConduitMaxIoRate = 800;
 
   public static boolean updateLightingWhenHidingFacades = false;
+  public static int conduitDynamicRenderDistance = 64;
 
   public static boolean travelAnchorEnabled = true;
   public static int travelAnchorMaxDistance = 48;
@@ -292,6 +301,8 @@ public final class Config {
 
   public static int farmDefaultSize = 3;
   public static int farmBonusSize = 2;
+  public static int farmMaxBlocksPerWork = 4;
+  public static int farmIdleRecheckTicks = 1200;
   public static boolean farmAxeDamageOnLeafBreak = false;
   public static float farmToolTakeDamageChance = 1;
   public static boolean disableFarmNotification = false;
@@ -428,6 +439,7 @@ public final class Config {
   public static int powerConduitTierTwoRF = 5120;
   public static int powerConduitTierThreeRF = 20480;
   public static boolean powerConduitOutputMJ = true;
+  public static int powerConduitMaxReceptorBackoffTicks = 20;
 
   public static int sliceAndSpliceLevelOnePowerPerTickRF = 80;
   public static int sliceAndSpliceLevelTwoPowerPerTickRF = 160;
@@ -601,6 +613,9 @@ public final class Config {
         .getBoolean("powerConduitCanDifferentTiersConnect", sectionPower.name, powerConduitCanDifferentTiersConnect,
             "If set to false power conduits of different tiers cannot be connected. in this case a block such as a cap. bank is needed to bridge different tiered networks");
     powerConduitOutputMJ = config.getBoolean("powerConduitOutputMJ", sectionPower.name, powerConduitOutputMJ, "When set to true power conduits will output MJ if RF is not supported");
+    powerConduitMaxReceptorBackoffTicks = config.get(sectionPower.name, "powerConduitMaxReceptorBackoffTicks", powerConduitMaxReceptorBackoffTicks,
+        "Machines that accept no power from a power conduit are skipped for a doubling number of ticks, up to this many, " +
+        "or until a neighbouring block changes. 0 offers power to every machine every tick.").getInt(powerConduitMaxReceptorBackoffTicks);
 
 
     painterEnergyPerTaskRF = config.get(sectionPower.name, "painterEnergyPerTaskRF", painterEnergyPerTaskRF,
@@ -672,6 +687,10 @@ public final class Config {
     fluidConduitMaxIoRate = config.get(sectionEfficiency.name, "fluidConduitMaxIoRate", fluidConduitMaxIoRate,
         "Number of millibuckets per tick that can pass through a single connection to a fluid conduit.").getInt(fluidConduitMaxIoRate);
 
+    fluidConduitPooledFlow = config.get(sectionEfficiency.name, "fluidConduitPooledFlow", fluidConduitPooledFlow,
+        "If true, fluid conduit networks hold their fluid in a single shared volume and feed their outputs directly, "
+            + "limited per connection by fluidConduitMaxIoRate, instead of flowing fluid from conduit to conduit.").getBoolean(fluidConduitPooledFlow);
+
     advancedFluidConduitExtractRate = config.get(sectionEfficiency.name, "advancedFluidConduitExtractRate", advancedFluidConduitExtractRate,
         "Number of millibuckets per tick extracted by pressurized fluid conduits auto extracting").getInt(advancedFluidConduitExtractRate);
 
@@ -713,6 +732,17 @@ public final class Config {
             "Enable per tick sampling on individual power inputs and outputs. This allows slightly more detailed messages from the RF Reader but has a negative impact on server performance.")
         .getBoolean(detailedPowerTrackingEnabled);
 
+    conduitNetworkTickBudgetMicros = config.get(sectionAdvanced.name, "conduitNetworkTickBudgetMicros", conduitNetworkTickBudgetMicros,
+        "Maximum time in microseconds spent ticking conduit networks each server tick. Networks that don't fit into the budget are ticked " +
+        "first on the following tick. Power and redstone networks are never held back. 0 disables the budget and ticks all networks every tick.").getInt(conduitNetworkTickBudgetMicros);
+    conduitNetworkProfilingEnabled = config.get(sectionAdvanced.name, "conduitNetworkProfilingEnabled", conduitNetworkProfilingEnabled,
+        "Collect per network timing and throughput statistics, shown by '/enderio netstats'. Can also be toggled with '/enderio netstats on|off'.")
+        .getBoolean(conduitNetworkProfilingEnabled);
+
+    machineSleepEnabled = config.get(sectionAdvanced.name, "machineSleepEnabled", machineSleepEnabled,
+        "If true, machines that can't start their next task stop updating until their inventory, power, redstone signal or neighbours change. " +
+        "Machines that push or pull items through their faces always stay awake.").getBoolean(machineSleepEnabled);
+
     useSneakMouseWheelYetaWrench = config.get(sectionPersonal.name, "useSneakMouseWheelYetaWrench", useSneakMouseWheelYetaWrench,
         "If true, shift-mouse wheel will change the conduit display mode when the YetaWrench is equipped.")
         .getBoolean(useSneakMouseWheelYetaWrench);
@@ -737,6 +767,14 @@ public final class Config {
         "'line of sight' distance rather than conduit path distance is used to calculate priorities.")
         .getBoolean(itemConduitUsePhyscialDistance);
 
+    itemConduitDormantPollTicks = config.get(sectionEfficiency.name, "itemConduitDormantPollTicks", itemConduitDormantPollTicks,
+        "Extracting item conduits that found nothing to move in a full pass over an inventory only check it again when it changes, " +
+        "or after this many ticks as a fallback. 0 disables this and checks every 20 ticks as before.").getInt(itemConduitDormantPollTicks);
+
+    itemConduitBatchExtraction = config.get(sectionEfficiency.name, "itemConduitBatchExtraction", itemConduitBatchExtraction,
+        "If true, item conduits with extract speed upgrades pull from several slots per operation until their extraction limit is reached, " +
+        "instead of from a single slot.").getBoolean(itemConduitBatchExtraction);
+
     vacuumChestRange = config.get(sectionEfficiency.name, "vacumChestRange", vacuumChestRange, "The range of the vacuum chest").getInt(vacuumChestRange);
 
     reinforcedObsidianEnabled = config.get(sectionItems.name, "reinforcedObsidianEnabled", reinforcedObsidianEnabled,
@@ -803,6 +841,8 @@ public final class Config {
             + " from being hidden behind a facade. This produces "
             + "better quality rendering but can result in frame stutters when switching to/from a wrench.")
         .getBoolean(updateLightingWhenHidingFacades);
+    conduitDynamicRenderDistance = config.get(sectionEfficiency.name, "conduitDynamicRenderDistance", conduitDynamicRenderDistance,
+        "Maximum distance in blocks at which the fluid levels of conduits are rendered.").getInt(conduitDynamicRenderDistance);
 
     darkSteelPowerDamgeAbsorptionRatios = config
         .get(sectionDarkSteel.name, "darkSteelPowerDamgeAbsorptionRatios", darkSteelPowerDamgeAbsorptionRatios,
@@ -1072,6 +1112,12 @@ public final class Config {
         "The number of blocks a farm will extend from its center").getInt(farmDefaultSize);
     farmBonusSize = config.get(sectionFarm.name, "farmBonusSize", farmBonusSize,
         "The extra number of blocks a farm will extend from its center per upgrade").getInt(farmBonusSize);
+    farmMaxBlocksPerWork = config.get(sectionFarm.name, "farmMaxBlocksPerWork", farmMaxBlocksPerWork,
+        "The number of blocks a farm will work on per work cycle. Blocks it couldn't do anything with last time and that haven't changed "
+            + "since are skipped and don't count.").getInt(farmMaxBlocksPerWork);
+    farmIdleRecheckTicks = config.get(sectionFarm.name, "farmIdleRecheckTicks", farmIdleRecheckTicks,
+        "The number of ticks after which a farm looks at a block again that it couldn't do anything with, even if the block hasn't changed.")
+        .getInt(farmIdleRecheckTicks);
 
     farmAxeDamageOnLeafBreak = config.get(sectionFarm.name, "farmAxeDamageOnLeafBreak", farmAxeDamageOnLeafBreak,
         "Should axes in a farm take damage when breaking leaves?").getBoolean(farmAxeDamageOnLeafBreak);
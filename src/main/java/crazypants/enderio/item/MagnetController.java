@@ -7,16 +7,13 @@ import java.util.List;
 import net.minecraft.command.IEntitySelector;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityItem;
-import net.minecraft.entity.item.EntityXPOrb;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.AxisAlignedBB;
-import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.common.registry.GameRegistry;
@@ -25,6 +22,7 @@ import crazypants.enderio.config.Config;
 import crazypants.enderio.item.PacketMagnetState.SlotType;
 import crazypants.enderio.network.PacketHandler;
 import crazypants.util.BaublesUtil;
+import crazypants.util.EntityIndex;
 import static crazypants.enderio.item.darksteel.DarkSteelItems.itemMagnet;
 import static crazypants.util.BotaniaUtil.hasSolegnoliaAround;
 
@@ -116,60 +114,27 @@ public class MagnetController {
     }
   }
 
-  private List<Entity> selectEntitiesWithinAABB(World world, AxisAlignedBB bb) {
-    List<Entity> arraylist = null;
-
-    int itemsRemaining = Config.magnetMaxItems;
-    if (itemsRemaining <= 0) {
-      itemsRemaining = Integer.MAX_VALUE;
-    }
-
-    final int minChunkX = MathHelper.floor_double((bb.minX) / 16.0D);
-    final int maxChunkX = MathHelper.floor_double((bb.maxX) / 16.0D);
-    final int minChunkZ = MathHelper.floor_double((bb.minZ) / 16.0D);
-    final int maxChunkZ = MathHelper.floor_double((bb.maxZ) / 16.0D);
-    final int minChunkY = MathHelper.floor_double((bb.minY) / 16.0D);
-    final int maxChunkY = MathHelper.floor_double((bb.maxY) / 16.0D);
-
-    for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
-      for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
-        Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
-        final int minChunkYClamped = MathHelper.clamp_int(minChunkY, 0, chunk.entityLists.length - 1);
-        final int maxChunkYClamped = MathHelper.clamp_int(maxChunkY, 0, chunk.entityLists.length - 1);
-        for (int chunkY = minChunkYClamped; chunkY <= maxChunkYClamped; ++chunkY) {
-          for (Entity entity : (List<Entity>) chunk.entityLists[chunkY]) {
-            if (!entity.isDead) {
-              boolean gotOne = false;
-              if (entity instanceof EntityItem && entity.boundingBox.intersectsWith(bb)) {
-                gotOne = !hasSolegnoliaAround(entity);
-                if (gotOne && !blacklist.isEmpty()) {
-                  final Item item = ((EntityItem) entity).getEntityItem().getItem();
-                  for (Item blacklisted : blacklist) {
-                    if (blacklisted == item) {
-                      gotOne = false;
-                      break;
-                    }
-                  }
-                }
-              } else if (entity instanceof EntityXPOrb && entity.boundingBox.intersectsWith(bb)) {
-                gotOne = true;
-              }
-              if (gotOne) {
-                if (arraylist == null) {
-                  arraylist = new ArrayList<Entity>(Config.magnetMaxItems > 0 ? Config.magnetMaxItems : 20);
-                }
-                arraylist.add(entity);
-                if (itemsRemaining-- <= 0) {
-                  return arraylist;
-                }
-              }
-            }
-          }
+  private static final IEntitySelector selector = new IEntitySelector() {
+    @Override
+    public boolean isEntityApplicable(Entity entity) {
+      if(!(entity instanceof EntityItem)) {
+        return true;
+      }
+      if(hasSolegnoliaAround(entity)) {
+        return false;
+      }
+      final Item item = ((EntityItem) entity).getEntityItem().getItem();
+      for (Item blacklisted : blacklist) {
+        if(blacklisted == item) {
+          return false;
         }
       }
+      return true;
     }
+  };
 
-    return arraylist;
+  private List<Entity> selectEntitiesWithinAABB(World world, AxisAlignedBB bb) {
+    return EntityIndex.getDrops(world, bb, selector, Config.magnetMaxItems);
   }
 
   private static class ActiveMagnet {
@@ -56,6 +56,11 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
 
   protected boolean notifyNeighbours = false;
 
+  // Set when the machine can't do anything until its inventory, power,
+  // redstone signal or neighbours change. The server side update returns
+  // straight away while the machine is asleep.
+  private boolean sleeping;
+
   @SideOnly(Side.CLIENT)
   private MachineSound sound;
 
@@ -108,6 +113,7 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
     faceModes.put(faceHit, mode);
     forceClientUpdate = true;
     notifyNeighbours = true;
+    wakeUp();
 
     updateBlock();
   }
@@ -118,6 +124,7 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
       faceModes = null;
       forceClientUpdate = true;
       notifyNeighbours = true;
+      wakeUp();
       updateBlock();
     }
   }
@@ -184,6 +191,7 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
   public void setRedstoneControlMode(RedstoneControlMode redstoneControlMode) {
     this.redstoneControlMode = redstoneControlMode;
     redstoneStateDirty = true;
+    wakeUp();
     updateBlock();
   }
 
@@ -246,6 +254,10 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
       return;
     } // else is server, do all logic only on the server
 
+    if(sleeping) {
+      return;
+    }
+
     boolean requiresClientSync = forceClientUpdate;
     boolean prevRedCheck = redstoneCheckPassed;
     if(redstoneStateDirty) {
@@ -424,6 +436,37 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
 
   protected abstract boolean processTasks(boolean redstoneCheckPassed);
 
+  public boolean isSleeping() {
+    return sleeping;
+  }
+
+  /**
+   * Stops updating the machine until {@link #wakeUp()} is called. Machines that
+   * push or pull items through their faces have to keep checking their
+   * neighbours and never go to sleep.
+   */
+  protected void sleep() {
+    if(Config.machineSleepEnabled && !hasSideIo()) {
+      sleeping = true;
+    }
+  }
+
+  public void wakeUp() {
+    sleeping = false;
+  }
+
+  private boolean hasSideIo() {
+    if(faceModes == null) {
+      return false;
+    }
+    for (IoMode mode : faceModes.values()) {
+      if(mode.pulls() || mode.pushes()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   // ---- Tile Entity
   // ------------------------------------------------------------------------------
 
@@ -444,6 +487,12 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
     readCommon(nbtRoot);
   }
 
+  @Override
+  public void markDirty() {
+    super.markDirty();
+    wakeUp();
+  }
+
   /**
    * Read state common to both block and item
    */
@@ -468,6 +517,7 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
       rsContr = 0;
     }
     redstoneControlMode = RedstoneControlMode.values()[rsContr];
+    wakeUp();
 
     if(nbtRoot.hasKey("hasFaces")) {
       for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
@@ -587,6 +637,7 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
     if(fromStack == null) {
       return null;
     }
+    wakeUp();
     if(fromStack.stackSize <= amount) {
       inventory[fromSlot] = null;
       return fromStack;
@@ -601,6 +652,7 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
 
   @Override
   public void setInventorySlotContents(int slot, ItemStack contents) {
+    wakeUp();
     if(contents == null) {
       inventory[slot] = contents;
     } else {
@@ -687,6 +739,7 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
 
   public void onNeighborBlockChange(Block blockId) {
     redstoneStateDirty = true;
+    wakeUp();
   }
   
   /* IRedstoneConnectable */
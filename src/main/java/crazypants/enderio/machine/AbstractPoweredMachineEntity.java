@@ -71,7 +71,11 @@ public abstract class AbstractPoweredMachineEntity extends AbstractMachineEntity
 
   @Override
   public void setEnergyStored(int stored) {
+    boolean hadPower = hasPower();
     storedEnergyRF = MathHelper.clamp_int(stored, 0, getMaxEnergyStored());
+    if(!hadPower && hasPower()) {
+      wakeUp();
+    }
   }
 
   @Override
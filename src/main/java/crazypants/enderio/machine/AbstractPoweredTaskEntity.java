@@ -26,6 +26,18 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
   protected boolean startFailed = false;
   protected float nextChance = Float.NaN;
 
+  // Inputs handed out by getRecipeInputs(). An entry is only replaced when its
+  // slot holds a different stack, changed stack sizes are seen through the
+  // shared stack.
+  private MachineRecipeInput[] recipeInputs;
+
+  // Results of the last failed checks, so machines that are fed but can't
+  // start don't repeat them every time they retry. Both are cleared when the
+  // inventory changes.
+  private boolean noNextRecipe;
+  private IMachineRecipe blockedRecipe;
+  private float blockedChance = Float.NaN;
+
   public AbstractPoweredTaskEntity(SlotDefinition slotDefinition) {
     super(slotDefinition);
   }
@@ -88,6 +100,8 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
   protected boolean processTasks(boolean redstoneChecksPassed) {
 
     if(!redstoneChecksPassed) {
+      // woken by the neighbour change when the signal changes
+      sleepIfAllowed();
       return false;
     }
 
@@ -95,7 +109,12 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
     // Process any current items
     requiresClientSync |= checkProgress(redstoneChecksPassed);
 
+    if(currentTask != null && hasPower()) {
+      return requiresClientSync;
+    }
     if(currentTask != null || !hasPower() || !hasInputStacks()) {
+      // nothing to do until power or inputs arrive
+      sleepIfAllowed();
       return requiresClientSync;
     }
 
@@ -125,6 +144,10 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
     } else {
       startFailed = true;
     }
+    if(startFailed) {
+      // all start checks only depend on the inventory, power and redstone
+      sleepIfAllowed();
+    }
     sendTaskProgressPacket();
 
     return requiresClientSync;
@@ -208,6 +231,7 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
     }
 
     cachedNextRecipe = null;
+    clearFailedChecks();
   }
 
   protected void mergeFluidResult(ResultStack result) {
@@ -250,19 +274,30 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
     return 0;
   }
 
+  /**
+   * Returns the current contents of the input slots. The array is re-used
+   * between calls and must not be modified.
+   */
   protected MachineRecipeInput[] getRecipeInputs() {
-    MachineRecipeInput[] res = new MachineRecipeInput[slotDefinition.getNumInputSlots()];
+    int numInputs = slotDefinition.getNumInputSlots();
+    if(recipeInputs == null || recipeInputs.length != numInputs) {
+      recipeInputs = new MachineRecipeInput[numInputs];
+    }
     int fromSlot = slotDefinition.minInputSlot;
-    for (int i = 0; i < res.length; i++) {
-      res[i] = new MachineRecipeInput(fromSlot, inventory[fromSlot]);
+    for (int i = 0; i < numInputs; i++) {
+      MachineRecipeInput input = recipeInputs[i];
+      if(input == null || input.slotNumber != fromSlot || input.item != inventory[fromSlot]) {
+        recipeInputs[i] = new MachineRecipeInput(fromSlot, inventory[fromSlot]);
+      }
       fromSlot++;
     }
-    return res;
+    return recipeInputs;
   }
 
   protected IMachineRecipe getNextRecipe() {
-    if (cachedNextRecipe == null) {
+    if(cachedNextRecipe == null && !noNextRecipe) {
       cachedNextRecipe = MachineRecipeRegistry.instance.getRecipeForInputs(getMachineName(), getRecipeInputs());
+      noNextRecipe = cachedNextRecipe == null;
     }
     return cachedNextRecipe;
   }
@@ -277,34 +312,38 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
   }
 
   protected boolean canInsertResult(float chance, IMachineRecipe nextRecipe) {
+    if(nextRecipe == blockedRecipe && chance == blockedChance) {
+      return false;
+    }
 
-    ResultStack[] nextResults = nextRecipe.getCompletedResult(chance, getRecipeInputs());
-    List<ItemStack> outputStacks = new ArrayList<ItemStack>(slotDefinition.getNumOutputSlots());
     if(slotDefinition.getNumOutputSlots() > 0) {
       boolean allFull = true;
-      for (int i = slotDefinition.minOutputSlot; i <= slotDefinition.maxOutputSlot; i++) {
+      for (int i = slotDefinition.minOutputSlot; i <= slotDefinition.maxOutputSlot && allFull; i++) {
         ItemStack st = inventory[i];
-        if(st != null) {
-          st = st.copy();
-          if(allFull && st.stackSize < st.getMaxStackSize()) {
-            allFull = false;
-          }
-        } else {
-          allFull = false;
-        }
-        outputStacks.add(st);
+        allFull = st != null && st.stackSize >= st.getMaxStackSize();
       }
       if(allFull) {
+        setResultBlocked(nextRecipe, chance);
         return false;
       }
     }
 
+    ResultStack[] nextResults = nextRecipe.getCompletedResult(chance, getRecipeInputs());
+    List<ItemStack> outputStacks = new ArrayList<ItemStack>(slotDefinition.getNumOutputSlots());
+    for (int i = slotDefinition.minOutputSlot; i <= slotDefinition.maxOutputSlot; i++) {
+      ItemStack st = inventory[i];
+      outputStacks.add(st == null ? null : st.copy());
+    }
+
     for (ResultStack result : nextResults) {
       if(result.item != null) {
         if(mergeItemResult(result.item, outputStacks) == 0) {
+          setResultBlocked(nextRecipe, chance);
           return false;
         }
       } else if(result.fluid != null) {
+        // room for fluids isn't tracked by the inventory, so don't remember
+        // this result
         if(!canInsertResultFluid(result)) {
           return false;
         }
@@ -314,6 +353,33 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
     return true;
   }
 
+  private void setResultBlocked(IMachineRecipe recipe, float chance) {
+    blockedRecipe = recipe;
+    blockedChance = chance;
+  }
+
+  protected void clearFailedChecks() {
+    noNextRecipe = false;
+    blockedRecipe = null;
+    blockedChance = Float.NaN;
+    wakeUp();
+  }
+
+  /**
+   * Returns false for machines whose tasks depend on anything other than their
+   * inventory, power and redstone signal, as nothing would wake them up when
+   * that changes.
+   */
+  protected boolean canSleep() {
+    return true;
+  }
+
+  private void sleepIfAllowed() {
+    if(canSleep()) {
+      sleep();
+    }
+  }
+
   protected boolean hasInputStacks() {
     int fromSlot = slotDefinition.minInputSlot;
     for (int i = 0; i < slotDefinition.getNumInputSlots(); i++) {
@@ -385,6 +451,7 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
   public void readCommon(NBTTagCompound nbtRoot) {
     super.readCommon(nbtRoot);
     cachedNextRecipe = null;
+    clearFailedChecks();
   }
 
   @Override
@@ -393,6 +460,7 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
     if(slotDefinition.isInputSlot(fromSlot)) {
       cachedNextRecipe = null;
     }
+    clearFailedChecks();
     return res;
   }
 
@@ -402,6 +470,14 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
     if(slotDefinition.isInputSlot(slot)) {
       cachedNextRecipe = null;
     }
+    clearFailedChecks();
+  }
+
+  @Override
+  public void markDirty() {
+    super.markDirty();
+    // stacks may have been changed in place, e.g. by hoppers or containers
+    clearFailedChecks();
   }
 
 }
@@ -53,6 +53,7 @@ public class TileAlloySmelter extends AbstractPoweredTaskEntity {
     if(this.mode != mode) {
       this.mode = mode;
       forceClientUpdate = true;
+      wakeUp();
     }
 
   }
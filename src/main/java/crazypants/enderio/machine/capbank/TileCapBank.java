@@ -128,7 +128,8 @@ public class TileCapBank extends TileEntityEio implements IInternalPowerReceiver
   @Override
   public void onChunkUnload() {
     if(network != null) {
-      network.destroyNetwork();
+      network.removeReceptors(receptors);
+      network.memberUnloaded(this);
     }
   }
 
@@ -615,6 +616,16 @@ public class TileCapBank extends TileEntityEio implements IInternalPowerReceiver
 
   @Override
   public int getEnergyStored() {
+    if(network == null) {
+      return energyStored;
+    }
+    return network.getEnergyStored(this);
+  }
+
+  /**
+   * The energy held by this cap bank while it is not part of a network.
+   */
+  public int getLocalEnergyStored() {
     return energyStored;
   }
 
@@ -810,7 +821,7 @@ public class TileCapBank extends TileEntityEio implements IInternalPowerReceiver
   //Values common to both item and block form
   public void writeCommonNBT(NBTTagCompound nbtRoot) {
     getType().writeTypeToNBT(nbtRoot);
-    nbtRoot.setInteger(PowerHandlerUtil.STORED_ENERGY_NBT_KEY, energyStored);
+    nbtRoot.setInteger(PowerHandlerUtil.STORED_ENERGY_NBT_KEY, getEnergyStored());
 
     if(maxInput != -1) {
       nbtRoot.setInteger("maxInput", maxInput);
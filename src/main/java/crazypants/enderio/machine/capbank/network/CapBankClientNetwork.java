@@ -110,6 +110,11 @@ public class CapBankClientNetwork implements ICapBankNetwork {
     return members.values();
   }
 
+  @Override
+  public void memberUnloaded(TileCapBank cap) {
+    destroyNetwork();
+  }
+
   @Override
   public void destroyNetwork() {
     for (TileCapBank cb : members.values()) {
@@ -142,6 +147,14 @@ public class CapBankClientNetwork implements ICapBankNetwork {
     return energyStored;
   }
 
+  @Override
+  public int getEnergyStored(TileCapBank cap) {
+    if(members.isEmpty()) {
+      return 0;
+    }
+    return CapBankNetwork.getShare(energyStored, members.size(), members.values().iterator().next() == cap);
+  }
+
   @Override
   public int getMaxOutput() {
     return maxEnergySent;
@@ -24,6 +24,7 @@ import crazypants.enderio.machine.IoMode;
 import crazypants.enderio.machine.RedstoneControlMode;
 import crazypants.enderio.machine.capbank.CapBankType;
 import crazypants.enderio.machine.capbank.TileCapBank;
+import crazypants.enderio.machine.capbank.network.CapBankNetworkData.SavedNetwork;
 import crazypants.enderio.machine.capbank.packet.PacketNetworkEnergyResponse;
 import crazypants.enderio.machine.capbank.packet.PacketNetworkStateResponse;
 import crazypants.enderio.network.PacketHandler;
@@ -51,7 +52,6 @@ public class CapBankNetwork implements ICapBankNetwork {
   private long timeAtLastApply;
 
   private long energyStored;
-  private long prevEnergyStored = -1;
   private long energyReceived;
   private long energySend;
 
@@ -76,6 +76,9 @@ public class CapBankNetwork implements ICapBankNetwork {
 
   private boolean firstUpate = true;
 
+  private CapBankNetworkData data;
+  private SavedNetwork saved;
+
   public CapBankNetwork(int id) {
     this.id = id;
   }
@@ -96,9 +99,53 @@ public class CapBankNetwork implements ICapBankNetwork {
         network.destroyNetwork();
       }
     }
+    if(type.isMultiblock()) {
+      data = CapBankNetworkData.get(world);
+      saved = data.createNetwork(type);
+      data.setLoaded(saved, this);
+    }
     setNetwork(world, cap);
   }
 
+  /**
+   * Re-creates a network from its saved descriptor when the first of its
+   * members is loaded. The other members attach as their chunks load.
+   */
+  void initFromSaved(TileCapBank cap, CapBankNetworkData data, SavedNetwork sn) {
+    this.data = data;
+    saved = sn;
+    type = cap.getType();
+    int count = sn.members.size();
+    energyStored = sn.energyStored;
+    maxEnergyStored = (long) type.getMaxEnergyStored() * count;
+    maxIO = (int) Math.min(IO_CAP, (long) type.getMaxIO() * count);
+    maxInput = sn.maxInput;
+    maxOutput = sn.maxOutput;
+    inputControlMode = sn.inputControlMode;
+    outputControlMode = sn.outputControlMode;
+    data.setLoaded(sn, this);
+    attachMember(cap);
+  }
+
+  /**
+   * Adds a member that is already accounted for in the saved descriptor.
+   */
+  void attachMember(TileCapBank cap) {
+    if(cap.setNetwork(this)) {
+      cap.setMaxInput(maxInput);
+      cap.setMaxOutput(maxOutput);
+      addLoadedMember(cap);
+    }
+  }
+
+  void writeState(SavedNetwork sn) {
+    sn.energyStored = energyStored;
+    sn.maxInput = maxInput;
+    sn.maxOutput = maxOutput;
+    sn.inputControlMode = inputControlMode;
+    sn.outputControlMode = outputControlMode;
+  }
+
 
   protected void setNetwork(World world, TileCapBank cap) {
     if(cap == null) {
@@ -136,11 +183,44 @@ public class CapBankNetwork implements ICapBankNetwork {
       }
     }
     capBanks.clear();
+    if(saved != null) {
+      data.removeNetwork(saved);
+      saved = null;
+    }
     if(cap != null) {
       PacketHandler.INSTANCE.sendToAll(new PacketNetworkStateResponse(this, true));
     }
   }
 
+  @Override
+  public void memberUnloaded(TileCapBank cap) {
+    if(saved == null) {
+      destroyNetwork();
+      return;
+    }
+    if(!capBanks.remove(cap)) {
+      return;
+    }
+    cap.setNetwork(null);
+    if(redstoneRecievers.remove(cap.getLocation())) {
+      updateRedstoneConditions();
+    }
+    if(inventory.getCapBank() == cap) {
+      inventory.setCapBank(null);
+      for (TileCapBank cb : capBanks) {
+        if(!InventoryImpl.isInventoryEmtpy(cb)) {
+          inventory.setCapBank(cb);
+          break;
+        }
+      }
+    }
+    if(capBanks.isEmpty()) {
+      // keep the state in the descriptor until a member is loaded again
+      writeState(saved);
+      data.setLoaded(saved, null);
+    }
+  }
+
   @Override
   public Collection<TileCapBank> getMembers() {
     return capBanks;
@@ -149,14 +229,13 @@ public class CapBankNetwork implements ICapBankNetwork {
   @Override
   public void addMember(TileCapBank cap) {
     if(!capBanks.contains(cap)) {
-      capBanks.add(cap);
       long newIO = maxIO + cap.getType().getMaxIO();
       if(newIO > IO_CAP) {
         newIO = IO_CAP;
       }
       maxIO = (int) newIO;
 
-      energyStored += cap.getEnergyStored();
+      energyStored += cap.getLocalEnergyStored();
       maxEnergyStored += cap.getMaxEnergyStored();
       if(maxInput == -1) {
         maxInput = cap.getMaxInputOverride();
@@ -164,24 +243,31 @@ public class CapBankNetwork implements ICapBankNetwork {
       if(maxOutput == -1) {
         maxOutput = cap.getMaxOutputOverride();
       }
-      cap.setInputControlMode(inputControlMode);
-      cap.setOutputControlMode(outputControlMode);
-
-      List<EnergyReceptor> recs = cap.getReceptors();
-      if(!recs.isEmpty()) {
-        addReceptors(recs);
+      if(saved != null) {
+        data.addMember(saved, cap.getLocation());
       }
+      addLoadedMember(cap);
+    }
+  }
+
+  private void addLoadedMember(TileCapBank cap) {
+    capBanks.add(cap);
+    cap.setInputControlMode(inputControlMode);
+    cap.setOutputControlMode(outputControlMode);
+
+    List<EnergyReceptor> recs = cap.getReceptors();
+    if(!recs.isEmpty()) {
+      addReceptors(recs);
+    }
 
+    if(inventory.isEmtpy()) {
+      inventory.setCapBank(cap);
+    } else if(!InventoryImpl.isInventoryEmtpy(cap)) {
       if(inventory.isEmtpy()) {
         inventory.setCapBank(cap);
-      } else if(!InventoryImpl.isInventoryEmtpy(cap)) {
-        if(inventory.isEmtpy()) {
-          inventory.setCapBank(cap);
-        } else {
-          cap.dropItems();
-        }
+      } else {
+        cap.dropItems();
       }
-
     }
   }
 
@@ -223,12 +309,8 @@ public class CapBankNetwork implements ICapBankNetwork {
     chargeItems(inventory.getStacks());
     transmitEnergy();
 
-    if(energyStored != prevEnergyStored) {
-      distributeEnergyToBanks();
-    }
     powerTrackerIn.tick(energyReceived);
     powerTrackerOut.tick(energySend);
-    prevEnergyStored = energyStored;
     energyReceived = 0;
     energySend = 0;
 
@@ -322,17 +404,31 @@ public class CapBankNetwork implements ICapBankNetwork {
     return chargedItem;
   }
 
+  /**
+   * Writes each member's share of the stored energy back to the cap bank so it
+   * is kept when the network is destroyed. While the network exists the shares
+   * are only calculated on demand by {@link #getEnergyStored(TileCapBank)}.
+   * The saved data of unloaded members is out of date, so their shares are
+   * kept in the world data and replace it once they load.
+   */
   private void distributeEnergyToBanks() {
-    if(capBanks.isEmpty()) {
+    Set<BlockCoord> loaded = new HashSet<BlockCoord>();
+    for (TileCapBank cb : capBanks) {
+      cb.setEnergyStored(getEnergyStored(cb));
+      loaded.add(cb.getLocation());
+    }
+    if(saved == null) {
       return;
     }
-    int energyPerCapBank = (int) (energyStored / capBanks.size());
-    int remaining = (int) (energyStored % capBanks.size());
-    for (TileCapBank cb : capBanks) {
-      cb.setEnergyStored(energyPerCapBank);
+    int count = saved.members.size();
+    // the remainder has gone to the first loaded member if there is one
+    boolean first = capBanks.isEmpty();
+    for (BlockCoord bc : saved.members) {
+      if(!loaded.contains(bc)) {
+        data.setUnloadedShare(bc, getShare(energyStored, count, first));
+        first = false;
+      }
     }
-    TileCapBank cb = capBanks.get(0);
-    cb.setEnergyStored(cb.getEnergyStored() + remaining);
   }
 
   //------ Power     
@@ -420,6 +516,27 @@ public class CapBankNetwork implements ICapBankNetwork {
     return energyStored;
   }
 
+  @Override
+  public int getEnergyStored(TileCapBank cap) {
+    int count = saved != null ? saved.members.size() : capBanks.size();
+    return getShare(energyStored, count, !capBanks.isEmpty() && capBanks.get(0) == cap);
+  }
+
+  /**
+   * Splits the energy evenly between the members, the first member also gets
+   * the remainder.
+   */
+  static int getShare(long energy, int memberCount, boolean isFirst) {
+    if(memberCount <= 0) {
+      return 0;
+    }
+    int share = (int) (energy / memberCount);
+    if(isFirst) {
+      share += (int) (energy % memberCount);
+    }
+    return share;
+  }
+
   @Override
   public long getMaxEnergyStoredL() {
     return maxEnergyStored;
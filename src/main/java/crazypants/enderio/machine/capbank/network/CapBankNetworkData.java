@@ -0,0 +1,207 @@
+package crazypants.enderio.machine.capbank.network;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldSavedData;
+
+import com.enderio.core.common.util.BlockCoord;
+
+import crazypants.enderio.machine.RedstoneControlMode;
+import crazypants.enderio.machine.capbank.CapBankType;
+
+/**
+ * Descriptors of the multiblock cap bank networks of a world. Members of a
+ * known network re-attach to it as their chunks load instead of re-walking
+ * their neighbours, and the stored energy of the network is kept here while
+ * none of its members are loaded. When a network is destroyed while some of
+ * its members are unloaded, their shares of the energy are kept here until
+ * they load again.
+ */
+public class CapBankNetworkData extends WorldSavedData {
+
+  public static final String NAME = "enderio_capbanks";
+
+  public static CapBankNetworkData get(World world) {
+    CapBankNetworkData data = (CapBankNetworkData) world.perWorldStorage.loadData(CapBankNetworkData.class, NAME);
+    if(data == null) {
+      data = new CapBankNetworkData(NAME);
+      world.perWorldStorage.setData(NAME, data);
+    }
+    return data;
+  }
+
+  private final List<SavedNetwork> networks = new ArrayList<SavedNetwork>();
+
+  private final Map<BlockCoord, SavedNetwork> byMember = new HashMap<BlockCoord, SavedNetwork>();
+
+  // energy of members whose network was destroyed while they were unloaded
+  private final Map<BlockCoord, Integer> unloadedShares = new HashMap<BlockCoord, Integer>();
+
+  private int loadedNetworks;
+
+  public CapBankNetworkData(String name) {
+    super(name);
+  }
+
+  SavedNetwork getNetwork(BlockCoord member) {
+    return byMember.get(member);
+  }
+
+  SavedNetwork createNetwork(CapBankType type) {
+    SavedNetwork res = new SavedNetwork(type.getUid());
+    networks.add(res);
+    markDirty();
+    return res;
+  }
+
+  void removeNetwork(SavedNetwork sn) {
+    if(networks.remove(sn)) {
+      for (BlockCoord bc : sn.members) {
+        if(byMember.get(bc) == sn) {
+          byMember.remove(bc);
+        }
+      }
+      setLoaded(sn, null);
+      markDirty();
+    }
+  }
+
+  void addMember(SavedNetwork sn, BlockCoord member) {
+    if(sn.members.add(member)) {
+      SavedNetwork prev = byMember.put(member, sn);
+      if(prev != null && prev != sn) {
+        prev.members.remove(member);
+      }
+      markDirty();
+    }
+  }
+
+  void setUnloadedShare(BlockCoord member, int energy) {
+    unloadedShares.put(member, energy);
+    markDirty();
+  }
+
+  /**
+   * Returns the energy the member at the given location was left with when its
+   * network was destroyed while it was unloaded, or null if there is none.
+   */
+  Integer takeUnloadedShare(BlockCoord member) {
+    Integer res = unloadedShares.remove(member);
+    if(res != null) {
+      markDirty();
+    }
+    return res;
+  }
+
+  void setLoaded(SavedNetwork sn, CapBankNetwork network) {
+    if(sn.network == null && network != null) {
+      loadedNetworks++;
+    } else if(sn.network != null && network == null) {
+      loadedNetworks--;
+    }
+    sn.network = network;
+    markDirty();
+  }
+
+  @Override
+  public boolean isDirty() {
+    // the energy of loaded networks changes all the time, so save it whenever
+    // the world is saved
+    return super.isDirty() || loadedNetworks > 0;
+  }
+
+  @Override
+  public void readFromNBT(NBTTagCompound nbtRoot) {
+    networks.clear();
+    byMember.clear();
+    unloadedShares.clear();
+    NBTTagList list = nbtRoot.getTagList("networks", 10);
+    for (int i = 0; i < list.tagCount(); i++) {
+      NBTTagCompound tag = list.getCompoundTagAt(i);
+      SavedNetwork sn = new SavedNetwork(tag.getString("type"));
+      sn.energyStored = tag.getLong("energyStored");
+      sn.maxInput = tag.getInteger("maxInput");
+      sn.maxOutput = tag.getInteger("maxOutput");
+      sn.inputControlMode = RedstoneControlMode.values()[tag.getShort("inputControlMode")];
+      sn.outputControlMode = RedstoneControlMode.values()[tag.getShort("outputControlMode")];
+      int[] coords = tag.getIntArray("members");
+      for (int j = 0; j + 2 < coords.length; j += 3) {
+        BlockCoord bc = new BlockCoord(coords[j], coords[j + 1], coords[j + 2]);
+        sn.members.add(bc);
+        byMember.put(bc, sn);
+      }
+      if(!sn.members.isEmpty()) {
+        networks.add(sn);
+      }
+    }
+    int[] shares = nbtRoot.getIntArray("unloadedShares");
+    for (int i = 0; i + 3 < shares.length; i += 4) {
+      unloadedShares.put(new BlockCoord(shares[i], shares[i + 1], shares[i + 2]), shares[i + 3]);
+    }
+  }
+
+  @Override
+  public void writeToNBT(NBTTagCompound nbtRoot) {
+    NBTTagList list = new NBTTagList();
+    for (SavedNetwork sn : networks) {
+      if(sn.network != null) {
+        sn.network.writeState(sn);
+      }
+      NBTTagCompound tag = new NBTTagCompound();
+      tag.setString("type", sn.typeUid);
+      tag.setLong("energyStored", sn.energyStored);
+      tag.setInteger("maxInput", sn.maxInput);
+      tag.setInteger("maxOutput", sn.maxOutput);
+      tag.setShort("inputControlMode", (short) sn.inputControlMode.ordinal());
+      tag.setShort("outputControlMode", (short) sn.outputControlMode.ordinal());
+      int[] coords = new int[sn.members.size() * 3];
+      int i = 0;
+      for (BlockCoord bc : sn.members) {
+        coords[i++] = bc.x;
+        coords[i++] = bc.y;
+        coords[i++] = bc.z;
+      }
+      tag.setIntArray("members", coords);
+      list.appendTag(tag);
+    }
+    nbtRoot.setTag("networks", list);
+    int[] shares = new int[unloadedShares.size() * 4];
+    int i = 0;
+    for (Map.Entry<BlockCoord, Integer> entry : unloadedShares.entrySet()) {
+      BlockCoord bc = entry.getKey();
+      shares[i++] = bc.x;
+      shares[i++] = bc.y;
+      shares[i++] = bc.z;
+      shares[i++] = entry.getValue();
+    }
+    nbtRoot.setIntArray("unloadedShares", shares);
+  }
+
+  static class SavedNetwork {
+
+    final String typeUid;
+    final Set<BlockCoord> members = new LinkedHashSet<BlockCoord>();
+    long energyStored;
+    int maxInput = -1;
+    int maxOutput = -1;
+    RedstoneControlMode inputControlMode = RedstoneControlMode.IGNORE;
+    RedstoneControlMode outputControlMode = RedstoneControlMode.IGNORE;
+
+    // the live network while any of the members is loaded
+    CapBankNetwork network;
+
+    SavedNetwork(String typeUid) {
+      this.typeUid = typeUid;
+    }
+
+  }
+
+}
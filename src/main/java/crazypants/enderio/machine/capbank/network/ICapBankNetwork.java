@@ -18,6 +18,11 @@ public interface ICapBankNetwork extends IPowerStorage {
 
   void destroyNetwork();
 
+  /**
+   * Called when a member is unloaded with its chunk rather than removed.
+   */
+  void memberUnloaded(TileCapBank cap);
+
   NetworkState getState();
 
   void onUpdateEntity(TileCapBank tileCapBank);
@@ -28,6 +33,11 @@ public interface ICapBankNetwork extends IPowerStorage {
   @Override
   long getEnergyStoredL();
 
+  /**
+   * The share of the stored energy held by the given member.
+   */
+  int getEnergyStored(TileCapBank cap);
+
   @Override
   void addEnergy(int energy);
 
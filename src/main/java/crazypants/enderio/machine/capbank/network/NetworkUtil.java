@@ -12,6 +12,7 @@ import net.minecraftforge.common.util.ForgeDirection;
 import com.enderio.core.common.util.BlockCoord;
 
 import crazypants.enderio.machine.capbank.TileCapBank;
+import crazypants.enderio.machine.capbank.network.CapBankNetworkData.SavedNetwork;
 
 public class NetworkUtil {
 
@@ -20,6 +21,9 @@ public class NetworkUtil {
   @SuppressWarnings({ "rawtypes", "unchecked" })
   public static void ensureValidNetwork(TileCapBank cap) {
     World world = cap.getWorldObj();
+    if(attachToSavedNetwork(cap, world)) {
+      return;
+    }
     Collection<TileCapBank> neighbours = getNeigbours(cap);
     if(reuseNetwork(cap, neighbours, world)) {
       return;
@@ -51,6 +55,27 @@ public class NetworkUtil {
     }
   }
 
+  private static boolean attachToSavedNetwork(TileCapBank cap, World world) {
+    if(!cap.getType().isMultiblock()) {
+      return false;
+    }
+    CapBankNetworkData data = CapBankNetworkData.get(world);
+    Integer share = data.takeUnloadedShare(cap.getLocation());
+    if(share != null) {
+      cap.setEnergyStored(share);
+    }
+    SavedNetwork sn = data.getNetwork(cap.getLocation());
+    if(sn == null || !sn.typeUid.equals(cap.getType().getUid())) {
+      return false;
+    }
+    if(sn.network != null) {
+      sn.network.attachMember(cap);
+    } else {
+      new CapBankNetwork(nextID.getAndIncrement()).initFromSaved(cap, data, sn);
+    }
+    return true;
+  }
+
   private static boolean reuseNetwork(TileCapBank cap, Collection<TileCapBank> neighbours, World world) {
     ICapBankNetwork network = null;
     for (TileCapBank conduit : neighbours) {
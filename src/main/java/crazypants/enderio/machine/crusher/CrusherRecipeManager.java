@@ -21,6 +21,7 @@ import crazypants.enderio.machine.recipe.Recipe;
 import crazypants.enderio.machine.recipe.RecipeBonusType;
 import crazypants.enderio.machine.recipe.RecipeConfig;
 import crazypants.enderio.machine.recipe.RecipeConfigParser;
+import crazypants.enderio.machine.recipe.RecipeIndex;
 import crazypants.enderio.machine.recipe.RecipeInput;
 import crazypants.enderio.machine.recipe.RecipeOutput;
 
@@ -40,6 +41,8 @@ public class CrusherRecipeManager {
   }
 
   private final List<Recipe> recipes = new ArrayList<Recipe>();
+
+  private final RecipeIndex<Recipe> index = new RecipeIndex<Recipe>();
   
   private final List<RecipeInput> ballExcludes = new ArrayList<RecipeInput>();
 
@@ -152,8 +155,9 @@ public class CrusherRecipeManager {
     if(input == null) {
       return null;
     }
-    for (Recipe recipe : recipes) {
-      if(recipe.isInputForRecipe(new MachineRecipeInput(0, input))) {
+    MachineRecipeInput mri = new MachineRecipeInput(0, input);
+    for (Recipe recipe : index.getCandidates(input)) {
+      if(recipe.isInputForRecipe(mri)) {
         return recipe;
       }
     }
@@ -198,6 +202,7 @@ public class CrusherRecipeManager {
       return;
     }
     recipes.add(recipe);
+    index.add(recipe);
   }
 
   public List<Recipe> getRecipes() {
@@ -0,0 +1,78 @@
+package crazypants.enderio.machine.farm;
+
+import java.util.BitSet;
+
+import net.minecraft.block.Block;
+import net.minecraft.world.World;
+
+import com.enderio.core.common.util.BlockCoord;
+
+import crazypants.enderio.config.Config;
+
+/**
+ * The blocks of a farm's plot that the farm couldn't do anything with the last
+ * time it looked at them, e.g. crops that weren't grown yet. These are skipped
+ * until the block or the block above it changes, or until
+ * {@link Config#farmIdleRecheckTicks} have passed for anything the farm can't
+ * see changing, like a farmer waiting on something further up a tree.
+ */
+class FarmPlot {
+
+  private final int minX, minZ, width;
+  private final int size;
+
+  private final BitSet idle = new BitSet();
+  private final int[] signatures;
+  private final long[] idleSince;
+
+  FarmPlot(BlockCoord center, int size) {
+    this.size = size;
+    width = size * 2 + 1;
+    minX = center.x - size;
+    minZ = center.z - size;
+    signatures = new int[width * width];
+    idleSince = new long[width * width];
+  }
+
+  int getSize() {
+    return size;
+  }
+
+  int getNumBlocks() {
+    return signatures.length;
+  }
+
+  int indexOf(BlockCoord bc) {
+    int x = bc.x - minX;
+    int z = bc.z - minZ;
+    if(x < 0 || x >= width || z < 0 || z >= width) {
+      return -1;
+    }
+    return z * width + x;
+  }
+
+  boolean isIdle(int index, int signature, long now) {
+    return index >= 0 && idle.get(index) && signatures[index] == signature && now - idleSince[index] < Config.farmIdleRecheckTicks;
+  }
+
+  void setIdle(int index, int signature, long now) {
+    if(index >= 0) {
+      idle.set(index);
+      signatures[index] = signature;
+      idleSince[index] = now;
+    }
+  }
+
+  void clear() {
+    idle.clear();
+  }
+
+  static int getSignature(World world, BlockCoord bc) {
+    int id = Block.getIdFromBlock(world.getBlock(bc.x, bc.y, bc.z));
+    int meta = world.getBlockMetadata(bc.x, bc.y, bc.z);
+    int above = Block.getIdFromBlock(world.getBlock(bc.x, bc.y + 1, bc.z));
+    // block ids have 12 bits and meta 4
+    return (((id << 4) | meta) << 12) | above;
+  }
+
+}
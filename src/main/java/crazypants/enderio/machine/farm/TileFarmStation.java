@@ -116,6 +116,7 @@ public class TileFarmStation extends AbstractPoweredTaskEntity {
   public static final String NOTIFICATION_NO_SEEDS = "noSeeds";
 
   private BlockCoord lastScanned;
+  private FarmPlot plot;
   private EntityPlayerMP farmerJoe;
 
   public static final int NUM_TOOL_SLOTS = 3;
@@ -371,6 +372,12 @@ public class TileFarmStation extends AbstractPoweredTaskEntity {
     }
   }
 
+  @Override
+  protected boolean canSleep() {
+    // the farm works on the blocks around it
+    return false;
+  }
+
   @Override
   protected boolean checkProgress(boolean redstoneChecksPassed) {
     if(redstoneChecksPassed) {
@@ -408,37 +415,62 @@ public class TileFarmStation extends AbstractPoweredTaskEntity {
       clearNotification();
     }
 
-    BlockCoord bc = null;
-    int infiniteLoop = 20;
-    while (bc == null || bc.equals(getLocation()) || !worldObj.getChunkProvider().chunkExists(bc.x >> 4, bc.z >> 4)) {
-      if (infiniteLoop-- <= 0) {
+    if(farmerJoe == null) {
+      farmerJoe = new FakeFarmPlayer(MinecraftServer.getServer().worldServerForDimension(worldObj.provider.dimensionId));
+    }
+
+    FarmPlot plot = getPlot();
+    long now = worldObj.getTotalWorldTime();
+    // fertilizer may still be used on blocks that are otherwise left alone
+    boolean skipIdle = !hasBonemeal();
+    int worked = 0;
+    for (int i = plot.getNumBlocks(); i > 0 && worked < Config.farmMaxBlocksPerWork; i--) {
+      BlockCoord bc = getNextCoord();
+      if(bc.equals(getLocation()) || !worldObj.getChunkProvider().chunkExists(bc.x >> 4, bc.z >> 4)) {
+        continue;
+      }
+      int index = plot.indexOf(bc);
+      if(skipIdle && plot.isIdle(index, FarmPlot.getSignature(worldObj, bc), now)) {
+        continue;
+      }
+      worked++;
+      WorkResult res = workBlock(bc);
+      if(res == WorkResult.STOP) {
         return;
       }
-      bc = getNextCoord();
+      if(res == WorkResult.IDLE) {
+        plot.setIdle(index, FarmPlot.getSignature(worldObj, bc), now);
+      }
     }
+  }
 
+  private enum WorkResult {
+    DONE,
+    IDLE,
+    STOP
+  }
+
+  private WorkResult workBlock(BlockCoord bc) {
     Block block = worldObj.getBlock(bc.x, bc.y, bc.z);
     if(block == null) {
-      return;
+      return WorkResult.IDLE;
     }
     int meta = worldObj.getBlockMetadata(bc.x, bc.y, bc.z);
-    if(farmerJoe == null) {
-      farmerJoe = new FakeFarmPlayer(MinecraftServer.getServer().worldServerForDimension(worldObj.provider.dimensionId));
-    }
 
+    boolean changed = false;
     if(isOpen(bc)) {
-      FarmersCommune.instance.prepareBlock(this, bc, block, meta);
+      changed = FarmersCommune.instance.prepareBlock(this, bc, block, meta);
       block = worldObj.getBlock(bc.x, bc.y, bc.z);
     }
 
     if(isOutputFull()) {
       setNotification("outputFull");
-      return;
+      return WorkResult.STOP;
     }
 
     if(!hasPower() && Config.farmActionEnergyUseRF > 0 && Config.farmAxeActionEnergyUseRF > 0) {
       setNotification("noPower");
-      return;
+      return WorkResult.STOP;
     }
 
     if(!isOpen(bc)) {
@@ -454,13 +486,13 @@ public class TileFarmStation extends AbstractPoweredTaskEntity {
             }
           }
         }
-        return;
+        return WorkResult.DONE;
       }
     }
 
     if(!hasPower() && (Config.farmBonemealActionEnergyUseRF > 0 || Config.farmBonemealTryEnergyUseRF > 0)) {
       setNotification("noPower");
-      return;
+      return WorkResult.STOP;
     }
 
     if (hasBonemeal() && bonemealCooldown-- <= 0) {
@@ -476,6 +508,7 @@ public class TileFarmStation extends AbstractPoweredTaskEntity {
           }
           usePower(Config.farmBonemealActionEnergyUseRF);
           bonemealCooldown = 20;
+          changed = true;
         } else {
           usePower(Config.farmBonemealTryEnergyUseRF);
           bonemealCooldown = 5;
@@ -483,6 +516,7 @@ public class TileFarmStation extends AbstractPoweredTaskEntity {
         farmerJoe.inventory.mainInventory[0] = null;
       }
     }
+    return changed ? WorkResult.DONE : WorkResult.IDLE;
   }
 
   private int bonemealCooldown = 5; // no need to persist this
@@ -651,6 +685,26 @@ public class TileFarmStation extends AbstractPoweredTaskEntity {
 
   }
 
+  private FarmPlot getPlot() {
+    int size = getFarmSize();
+    if(plot == null || plot.getSize() != size) {
+      plot = new FarmPlot(getLocation(), size);
+    }
+    return plot;
+  }
+
+  @Override
+  public void setInventorySlotContents(int slot, ItemStack contents) {
+    ItemStack prev = inventory[slot];
+    super.setInventorySlotContents(slot, contents);
+    // new tools, fertilizer or seeds may let the farm work blocks it had to
+    // leave alone, taking seeds out doesn't
+    if(plot != null && contents != null && !slotDefinition.isOutputSlot(slot)
+        && (prev == null || !prev.isItemEqual(contents) || prev.stackSize < contents.stackSize)) {
+      plot.clear();
+    }
+  }
+
   private @Nonnull BlockCoord getNextCoord() {
 
     int size = getFarmSize();
@@ -45,6 +45,7 @@ import crazypants.enderio.machine.SlotDefinition;
 import crazypants.enderio.machine.ranged.IRanged;
 import crazypants.enderio.machine.ranged.RangeEntity;
 import crazypants.enderio.power.BasicCapacitor;
+import crazypants.util.EntityIndex;
 
 public class TileAttractor extends AbstractPowerConsumerEntity implements IRanged {
 
@@ -149,7 +150,7 @@ public class TileAttractor extends AbstractPowerConsumerEntity implements IRange
       return false;
     }
     tickCounter++;
-    if(tickCounter < 10) {
+    if(!shouldDoWorkThisTick(10)) {
       for (EntityLiving ent : tracking) {
         onEntityTick(ent);
       }
@@ -158,7 +159,7 @@ public class TileAttractor extends AbstractPowerConsumerEntity implements IRange
     tickCounter = 0;
 
     Set<EntityLiving> trackingThisTick = new HashSet<EntityLiving>();
-    List<EntityLiving> entsInBounds = worldObj.getEntitiesWithinAABB(EntityLiving.class, attractorBounds);
+    List<EntityLiving> entsInBounds = EntityIndex.getEntities(worldObj, EntityLiving.class, attractorBounds, null);
 
     int candidates = 0;
     for (EntityLiving ent : entsInBounds) {
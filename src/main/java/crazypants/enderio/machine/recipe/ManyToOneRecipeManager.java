@@ -16,6 +16,8 @@ public class ManyToOneRecipeManager {
   
   private final List<IManyToOneRecipe> recipes = new ArrayList<IManyToOneRecipe>();
 
+  private final RecipeIndex<IManyToOneRecipe> index = new RecipeIndex<IManyToOneRecipe>();
+
   private final String coreFileName;
   private final String customFileName;
   private final String managerName;
@@ -105,13 +107,13 @@ public class ManyToOneRecipeManager {
         RecipeOutput out3 = new RecipeOutput(out.getOutput(), out.getChance(), out.getExperiance());
         out3.getOutput().stackSize *= 3;
 
-        recipes.add(new BasicManyToOneRecipe(new Recipe(out3, er * 3, bns, new RecipeInput[] { in.copy(), in.copy(), in.copy() })));
-        recipes.add(new BasicManyToOneRecipe(new Recipe(out3, er * 3, bns, new RecipeInput[] { in.copy(), in2.copy() })));
-        recipes.add(new BasicManyToOneRecipe(new Recipe(out3, er * 3, bns, new RecipeInput[] { in2.copy(), in.copy() })));
-        recipes.add(new BasicManyToOneRecipe(new Recipe(out2, er * 2, bns, new RecipeInput[] { in.copy(), in.copy() })));
-        recipes.add(new BasicManyToOneRecipe(new Recipe(out3, er * 3, bns, new RecipeInput[] { in3.copy() })));
-        recipes.add(new BasicManyToOneRecipe(new Recipe(out2, er * 2, bns, new RecipeInput[] { in2.copy() })));
-        recipes.add(new BasicManyToOneRecipe(rec));
+        doAddRecipe(new BasicManyToOneRecipe(new Recipe(out3, er * 3, bns, new RecipeInput[] { in.copy(), in.copy(), in.copy() })));
+        doAddRecipe(new BasicManyToOneRecipe(new Recipe(out3, er * 3, bns, new RecipeInput[] { in.copy(), in2.copy() })));
+        doAddRecipe(new BasicManyToOneRecipe(new Recipe(out3, er * 3, bns, new RecipeInput[] { in2.copy(), in.copy() })));
+        doAddRecipe(new BasicManyToOneRecipe(new Recipe(out2, er * 2, bns, new RecipeInput[] { in.copy(), in.copy() })));
+        doAddRecipe(new BasicManyToOneRecipe(new Recipe(out3, er * 3, bns, new RecipeInput[] { in3.copy() })));
+        doAddRecipe(new BasicManyToOneRecipe(new Recipe(out2, er * 2, bns, new RecipeInput[] { in2.copy() })));
+        doAddRecipe(new BasicManyToOneRecipe(rec));
         Log.info("Created 6 synthetic recipes for " + in.getInput() + " => " + out.getOutput());
       } else {
         addRecipe(new BasicManyToOneRecipe(rec));
@@ -129,7 +131,12 @@ public class ManyToOneRecipeManager {
     if(rec != null) {
       Log.warn("The supplied recipe " + recipe + " for " + managerName + " may be a duplicate to: " + rec);
     }
+    doAddRecipe(recipe);
+  }
+
+  private void doAddRecipe(IManyToOneRecipe recipe) {
     recipes.add(recipe);
+    index.add(recipe);
   }
 
   private IRecipe getRecipeForInputs(List<ItemStack> inputs) {
@@ -142,8 +149,13 @@ public class ManyToOneRecipeManager {
   }
 
   public IRecipe getRecipeForInputs(MachineRecipeInput[] inputs) {
-
-    for (IManyToOneRecipe rec : recipes) {
+    // a recipe has to match all of the inputs, so the candidates for any one
+    // of them are enough
+    ItemStack key = getFirstItem(inputs);
+    if(key == null) {
+      return null;
+    }
+    for (IManyToOneRecipe rec : index.getCandidates(key)) {
       if(rec.isInputForRecipe(inputs)) {
         return rec;
       }
@@ -151,11 +163,23 @@ public class ManyToOneRecipeManager {
     return null;
   }
 
+  private static ItemStack getFirstItem(MachineRecipeInput[] inputs) {
+    if(inputs == null) {
+      return null;
+    }
+    for (MachineRecipeInput input : inputs) {
+      if(input != null && input.item != null) {
+        return input.item;
+      }
+    }
+    return null;
+  }
+
   public boolean isValidInput(MachineRecipeInput input) {
     if(input == null || input.item == null) {
       return false;
     }
-    for (IManyToOneRecipe recipe : recipes) {
+    for (IManyToOneRecipe recipe : index.getCandidates(input.item)) {
       for (RecipeInput ri : recipe.getInputs()) {
         if(ri.isInput(input.item) && (ri.getSlotNumber() == -1 || input.slotNumber == ri.getSlotNumber())) {
           return true;
@@ -169,7 +193,14 @@ public class ManyToOneRecipeManager {
     if(inputs == null || inputs.length == 0) {
       return false;
     }
-    for (IManyToOneRecipe recipe : recipes) {
+    List<IManyToOneRecipe> candidates = recipes;
+    for (ItemStack input : inputs) {
+      if(input != null) {
+        candidates = index.getCandidates(input);
+        break;
+      }
+    }
+    for (IManyToOneRecipe recipe : candidates) {
       if(recipe.isValidRecipeComponents(inputs)) {
         return true;
       }
@@ -0,0 +1,166 @@
+package crazypants.enderio.machine.recipe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * Index of recipes by their inputs, so lookups only have to check the recipes
+ * that have an input matching a given item or fluid instead of all of them.
+ * Recipes are indexed by item and meta, by item alone if the meta is ignored,
+ * by ore dictionary id and by fluid. Recipes with inputs of any other type are
+ * always returned as candidates. Candidates are returned in the order the
+ * recipes were added and still have to be checked by the caller.
+ */
+public class RecipeIndex<T extends IRecipe> {
+
+  private static final Comparator<Entry<?>> ORDER = new Comparator<Entry<?>>() {
+    @Override
+    public int compare(Entry<?> a, Entry<?> b) {
+      return a.seq < b.seq ? -1 : (a.seq == b.seq ? 0 : 1);
+    }
+  };
+
+  private final Map<Item, List<Entry<T>>> byItem = new HashMap<Item, List<Entry<T>>>();
+  private final Map<Integer, List<Entry<T>>> byOre = new HashMap<Integer, List<Entry<T>>>();
+  private final Map<Fluid, List<Entry<T>>> byFluid = new HashMap<Fluid, List<Entry<T>>>();
+  private final List<Entry<T>> unindexed = new ArrayList<Entry<T>>();
+
+  private int nextSeq;
+
+  public void add(T recipe) {
+    if(recipe == null || recipe.getInputs() == null) {
+      return;
+    }
+    int seq = nextSeq++;
+    for (RecipeInput ri : recipe.getInputs()) {
+      if(ri == null) {
+        continue;
+      }
+      if(ri.getClass() == OreDictionaryRecipeInput.class) {
+        add(byOre, ((OreDictionaryRecipeInput) ri).getOreId(), new Entry<T>(recipe, seq, -1));
+      } else if(ri.getClass() != RecipeInput.class) {
+        // may match anything
+        unindexed.add(new Entry<T>(recipe, seq, -1));
+      } else if(ri.isFluid()) {
+        add(byFluid, ri.getFluidInput().getFluid(), new Entry<T>(recipe, seq, -1));
+      } else if(ri.getInput() != null) {
+        ItemStack input = ri.getInput();
+        add(byItem, input.getItem(), new Entry<T>(recipe, seq, ri.isUseMeta() ? input.getItemDamage() : -1));
+      }
+    }
+  }
+
+  private static <K, T extends IRecipe> void add(Map<K, List<Entry<T>>> map, K key, Entry<T> entry) {
+    List<Entry<T>> list = map.get(key);
+    if(list == null) {
+      list = new ArrayList<Entry<T>>();
+      map.put(key, list);
+    }
+    list.add(entry);
+  }
+
+  /**
+   * Returns the recipes that have an input that may match the given item.
+   */
+  public List<T> getCandidates(ItemStack stack) {
+    if(stack == null || stack.getItem() == null) {
+      return Collections.emptyList();
+    }
+    List<Entry<T>> found = new ArrayList<Entry<T>>();
+    int sources = 0;
+    List<Entry<T>> items = byItem.get(stack.getItem());
+    if(items != null) {
+      int meta = stack.getItemDamage();
+      for (Entry<T> e : items) {
+        if(e.meta == -1 || e.meta == meta) {
+          found.add(e);
+        }
+      }
+      sources++;
+    }
+    if(!byOre.isEmpty()) {
+      int[] ids = getOreIds(stack);
+      for (int id : ids) {
+        List<Entry<T>> ores = byOre.get(id);
+        if(ores != null) {
+          found.addAll(ores);
+          sources++;
+        }
+      }
+    }
+    return toRecipes(found, sources);
+  }
+
+  /**
+   * Returns the recipes that have an input that may match the given fluid.
+   */
+  public List<T> getCandidates(FluidStack fluid) {
+    if(fluid == null || fluid.getFluid() == null) {
+      return Collections.emptyList();
+    }
+    List<Entry<T>> found = new ArrayList<Entry<T>>();
+    List<Entry<T>> fluids = byFluid.get(fluid.getFluid());
+    if(fluids != null) {
+      found.addAll(fluids);
+    }
+    return toRecipes(found, 1);
+  }
+
+  private List<T> toRecipes(List<Entry<T>> found, int sources) {
+    if(!unindexed.isEmpty()) {
+      found.addAll(unindexed);
+      sources++;
+    }
+    if(found.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if(sources > 1) {
+      Collections.sort(found, ORDER);
+    }
+    List<T> res = new ArrayList<T>(found.size());
+    int lastSeq = -1;
+    for (Entry<T> e : found) {
+      // a recipe may be listed once for each of its inputs
+      if(e.seq != lastSeq) {
+        res.add(e.recipe);
+        lastSeq = e.seq;
+      }
+    }
+    return res;
+  }
+
+  private static int[] getOreIds(ItemStack stack) {
+    try {
+      int[] ids = OreDictionary.getOreIDs(stack);
+      return ids == null ? new int[0] : ids;
+    } catch (Exception e) {
+      // same as OreDictionaryRecipeInput.isInput
+      return new int[0];
+    }
+  }
+
+  private static class Entry<T> {
+
+    final T recipe;
+    final int seq;
+    final int meta;
+
+    Entry(T recipe, int seq, int meta) {
+      this.recipe = recipe;
+      this.seq = seq;
+      this.meta = meta;
+    }
+
+  }
+
+}
@@ -73,6 +73,10 @@ public class RecipeInput {
     return slot;
   }
 
+  public boolean isUseMeta() {
+    return useMeta;
+  }
+
   public boolean isInput(ItemStack test) {
     if(test == null || input == null) {
       return false;
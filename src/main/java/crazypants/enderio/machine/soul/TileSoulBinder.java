@@ -64,6 +64,12 @@ public class TileSoulBinder extends AbstractPoweredTaskEntity implements IHaveEx
     return 1;
   }
   
+  @Override
+  protected boolean canSleep() {
+    // experience can be added by players without touching the inventory
+    return false;
+  }
+
   @Override
   protected boolean processTasks(boolean redstoneChecksPassed) {
     if(xpCont.isDirty()) {
@@ -18,6 +18,7 @@ import crazypants.enderio.machine.SlotDefinition;
 import crazypants.enderio.power.BasicCapacitor;
 import crazypants.enderio.power.Capacitors;
 import crazypants.enderio.power.ICapacitor;
+import crazypants.util.EntityIndex;
 
 public class TilePoweredSpawner extends AbstractPoweredTaskEntity {
 
@@ -151,6 +152,12 @@ public class TilePoweredSpawner extends AbstractPoweredTaskEntity {
     return powerUsePerTick;
   }
 
+  @Override
+  protected boolean canSleep() {
+    // spawning depends on nearby players
+    return false;
+  }
+
   @Override
   protected boolean hasInputStacks() {
     return true;
@@ -250,11 +257,11 @@ public class TilePoweredSpawner extends AbstractPoweredTaskEntity {
     int spawnRange = Config.poweredSpawnerSpawnRange;
 
     if(Config.poweredSpawnerMaxNearbyEntities > 0) {
-      int nearbyEntities = worldObj.getEntitiesWithinAABB(
+      int nearbyEntities = EntityIndex.getEntities(worldObj,
           entity.getClass(),
           AxisAlignedBB.getBoundingBox(
                   xCoord - spawnRange*2, yCoord - 4, zCoord - spawnRange*2,
-                  xCoord + spawnRange*2, yCoord + 4, zCoord + spawnRange*2)).size();
+                  xCoord + spawnRange*2, yCoord + 4, zCoord + spawnRange*2), null).size();
 
       if(nearbyEntities >= Config.poweredSpawnerMaxNearbyEntities) {
         return false;
@@ -85,6 +85,12 @@ public class TileTransceiver extends AbstractPoweredTaskEntity implements IFluid
     return redstoneCheckPassed;
   }
 
+  @Override
+  protected boolean canSleep() {
+    // channels are processed every tick
+    return false;
+  }
+
   @Override
   protected boolean processTasks(boolean redstoneChecksPassed) {
     boolean res = super.processTasks(redstoneChecksPassed);
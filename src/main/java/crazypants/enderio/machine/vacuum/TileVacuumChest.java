@@ -26,6 +26,7 @@ import crazypants.enderio.conduit.item.filter.ItemFilter;
 import crazypants.enderio.config.Config;
 import crazypants.enderio.machine.IRedstoneModeControlable;
 import crazypants.enderio.machine.RedstoneControlMode;
+import crazypants.util.EntityIndex;
 
 public class TileVacuumChest extends TileEntityEio implements IEntitySelector, IInventory, IRedstoneModeControlable {
 
@@ -79,14 +80,13 @@ public class TileVacuumChest extends TileEntityEio implements IEntitySelector, I
     return false;
   }
 
-  @SuppressWarnings("unchecked")
   private void doHoover() {
 
     int rangeSqr = range*range;
     BoundingBox bb = new BoundingBox(getLocation());
     AxisAlignedBB aabb = AxisAlignedBB.getBoundingBox(bb.minX, bb.minY, bb.minZ, bb.maxX, bb.maxY, bb.maxZ);
     aabb = aabb.expand(range, range, range);
-    List<EntityItem> interestingItems = worldObj.selectEntitiesWithinAABB(EntityItem.class, aabb, this);
+    List<EntityItem> interestingItems = EntityIndex.getEntities(worldObj, EntityItem.class, aabb, this);
 
     for (EntityItem entity : interestingItems) {
       if(filter == null || filter.doesItemPassFilter(entity.getEntityItem())) {
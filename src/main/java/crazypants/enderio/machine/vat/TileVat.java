@@ -112,6 +112,7 @@ public class TileVat extends AbstractPoweredTaskEntity implements IFluidHandler,
           if(drained != null && drained.amount > 0) {
             inputTank.fill(drained, true);
             tanksDirty = true;
+            clearFailedChecks();
             return res;
           }
         } else {
@@ -127,6 +128,7 @@ public class TileVat extends AbstractPoweredTaskEntity implements IFluidHandler,
                   if(drained != null && drained.amount > 0) {
                     inputTank.fill(drained, true);
                     tanksDirty = true;
+                    clearFailedChecks();
                     return res;
                   }
                 }
@@ -152,6 +154,7 @@ public class TileVat extends AbstractPoweredTaskEntity implements IFluidHandler,
     int res = inputTank.fill(resource, doFill);
     if(res > 0 && doFill) {
       tanksDirty = true;
+      clearFailedChecks();
     }
     return res;
   }
@@ -167,6 +170,8 @@ public class TileVat extends AbstractPoweredTaskEntity implements IFluidHandler,
     FluidStack res = outputTank.drain(resource.amount, doDrain);
     if(res != null && res.amount > 0 && doDrain) {
       tanksDirty = true;
+      // there may be room for the next result now
+      wakeUp();
     }
     return res;
   }
@@ -179,10 +184,18 @@ public class TileVat extends AbstractPoweredTaskEntity implements IFluidHandler,
     FluidStack res = outputTank.drain(maxDrain, doDrain);
     if(res != null && res.amount > 0 && doDrain) {
       tanksDirty = true;
+      // there may be room for the next result now
+      wakeUp();
     }
     return res;
   }
 
+  @Override
+  protected boolean canSleep() {
+    // stay awake until the tanks have been synced
+    return !tanksDirty;
+  }
+
   @Override
   protected boolean processTasks(boolean redstoneChecksPassed) {
     boolean res = super.processTasks(redstoneChecksPassed);
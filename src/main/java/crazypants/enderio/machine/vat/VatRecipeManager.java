@@ -14,6 +14,7 @@ import crazypants.enderio.machine.recipe.IRecipe;
 import crazypants.enderio.machine.recipe.Recipe;
 import crazypants.enderio.machine.recipe.RecipeConfig;
 import crazypants.enderio.machine.recipe.RecipeConfigParser;
+import crazypants.enderio.machine.recipe.RecipeIndex;
 import crazypants.enderio.machine.recipe.RecipeInput;
 import crazypants.enderio.machine.recipe.RecipeOutput;
 
@@ -30,6 +31,8 @@ public class VatRecipeManager {
 
   private final List<IRecipe> recipes = new ArrayList<IRecipe>();
 
+  private final RecipeIndex<IRecipe> index = new RecipeIndex<IRecipe>();
+
   public VatRecipeManager() {
   }
 
@@ -65,7 +68,18 @@ public class VatRecipeManager {
     if(inputs == null || inputs.length == 0) {
       return null;
     }
-    for (IRecipe recipe : recipes) {
+    // all vat recipes need their input fluid
+    FluidStack fluid = null;
+    for (MachineRecipeInput input : inputs) {
+      if(input != null && input.fluid != null) {
+        fluid = input.fluid;
+        break;
+      }
+    }
+    if(fluid == null) {
+      return null;
+    }
+    for (IRecipe recipe : index.getCandidates(fluid)) {
       if(recipe.isInputForRecipe(inputs)) {
         return recipe;
       }
@@ -88,7 +102,9 @@ public class VatRecipeManager {
       Log.debug("Could not add invalid Vat recipe: " + recipe);
       return;
     }
-    recipes.add(new VatRecipe(recipe));
+    VatRecipe vr = new VatRecipe(recipe);
+    recipes.add(vr);
+    index.add(vr);
   }
 
   public List<IRecipe> getRecipes() {
@@ -96,7 +112,7 @@ public class VatRecipeManager {
   }
 
   public boolean isValidInput(MachineRecipeInput input) {
-    for (IRecipe recipe : recipes) {
+    for (IRecipe recipe : getCandidates(input)) {
       if(input.item != null && recipe.isValidInput(input.slotNumber, input.item)) {
         return true;
       } else if(input.fluid != null && recipe.isValidInput(input.fluid)) {
@@ -106,8 +122,24 @@ public class VatRecipeManager {
     return false;
   }
 
+  private List<IRecipe> getCandidates(MachineRecipeInput input) {
+    if(input.item != null) {
+      return index.getCandidates(input.item);
+    }
+    return index.getCandidates(input.fluid);
+  }
+
   public boolean isValidInput(MachineRecipeInput[] inputs) {
-    for (IRecipe recipe : recipes) {
+    // a recipe has to accept each of the inputs, so the candidates for any one
+    // of them are enough
+    List<IRecipe> candidates = recipes;
+    for (MachineRecipeInput input : inputs) {
+      if(input.item != null || input.fluid != null) {
+        candidates = getCandidates(input);
+        break;
+      }
+    }
+    for (IRecipe recipe : candidates) {
       boolean allValid = true;
       for(MachineRecipeInput input : inputs) {
         if(input.item != null) {
@@ -12,8 +12,6 @@ import crazypants.enderio.conduit.IConduitBundle;
 import crazypants.enderio.conduit.TileConduitBundle;
 import crazypants.enderio.conduit.gas.IGasConduit;
 import crazypants.enderio.conduit.gas.PacketGasLevel;
-import crazypants.enderio.conduit.liquid.ILiquidConduit;
-import crazypants.enderio.conduit.liquid.PacketFluidLevel;
 import crazypants.enderio.machine.generator.combustion.PacketCombustionTank;
 import crazypants.enderio.machine.generator.combustion.TileCombustionGenerator;
 import crazypants.enderio.machine.generator.stirling.PacketBurnTime;
@@ -21,19 +19,6 @@ import crazypants.enderio.machine.generator.stirling.TileEntityStirlingGenerator
 
 public class ClientUtil {
 
-  public static void doFluidLevelUpdate(int x, int y, int z, PacketFluidLevel pkt) {
-    TileEntity tile = Minecraft.getMinecraft().theWorld.getTileEntity(x, y, z);
-    if(pkt.tc == null || !(tile instanceof IConduitBundle)) {
-      return;
-    }
-    IConduitBundle bundle = (IConduitBundle) tile;
-    ILiquidConduit con = bundle.getConduit(ILiquidConduit.class);
-    if(con == null) {
-      return;
-    }
-    con.readFromNBT(pkt.tc, TileConduitBundle.NBT_VERSION);
-  }
-
   public static void doGasLevelUpdate(int x, int y, int z, PacketGasLevel pkt) {
     TileEntity tile = Minecraft.getMinecraft().theWorld.getTileEntity(x, y, z);
     if(pkt.tc == null || !(tile instanceof IConduitBundle)) {
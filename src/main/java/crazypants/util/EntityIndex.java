@@ -0,0 +1,194 @@
+package crazypants.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.command.IEntitySelector;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.item.EntityXPOrb;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Items, xp orbs and living entities of a world, sorted by chunk section. A
+ * lot of blocks and items look for these around them every few ticks and the
+ * world can only answer that by checking every entity in the chunk sections in
+ * range against the requested class, so sections are split up once per tick on
+ * their first query and shared by all later queries in the same tick.
+ * <p>
+ * Entities that spawn later in the tick aren't seen until the next one, dead
+ * entities are left out of the results.
+ */
+public final class EntityIndex {
+
+  public static final EntityIndex instance = new EntityIndex();
+
+  static {
+    MinecraftForge.EVENT_BUS.register(EntityIndex.instance);
+  }
+
+  private static final int ITEMS = 1;
+  private static final int XP = 2;
+  private static final int LIVING = 4;
+
+  // magnets query the client world on the client thread
+  private final Map<World, WorldIndex> indices = Collections.synchronizedMap(new HashMap<World, WorldIndex>());
+
+  private EntityIndex() {
+  }
+
+  /**
+   * Same as {@link World#selectEntitiesWithinAABB}. Lookups for anything other
+   * than items, xp orbs and living entities are passed on to the world.
+   */
+  public static <T extends Entity> List<T> getEntities(World world, Class<T> type, AxisAlignedBB bb, IEntitySelector selector) {
+    return getEntities(world, type, bb, selector, 0);
+  }
+
+  /**
+   * Same as {@link #getEntities(World, Class, AxisAlignedBB, IEntitySelector)},
+   * but stops looking once <code>limit</code> entities have been found. A
+   * limit of 0 or less returns all of them.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Entity> List<T> getEntities(World world, Class<T> type, AxisAlignedBB bb, IEntitySelector selector, int limit) {
+    int categories = getCategory(type);
+    if(categories == 0) {
+      List<T> res = world.selectEntitiesWithinAABB(type, bb, selector);
+      return limit > 0 && res.size() > limit ? res.subList(0, limit) : res;
+    }
+    return instance.getIndex(world).select(world, type, categories, bb, selector, limit);
+  }
+
+  /**
+   * Items and xp orbs within the bounds. Both are collected section by section,
+   * so a limited lookup doesn't leave out either of them.
+   */
+  public static List<Entity> getDrops(World world, AxisAlignedBB bb, IEntitySelector selector, int limit) {
+    return instance.getIndex(world).select(world, Entity.class, ITEMS | XP, bb, selector, limit);
+  }
+
+  private static int getCategory(Class<? extends Entity> type) {
+    if(EntityItem.class.isAssignableFrom(type)) {
+      return ITEMS;
+    }
+    if(EntityXPOrb.class.isAssignableFrom(type)) {
+      return XP;
+    }
+    if(EntityLivingBase.class.isAssignableFrom(type)) {
+      return LIVING;
+    }
+    return 0;
+  }
+
+  private static long getKey(int chunkX, int chunkY, int chunkZ) {
+    return ((chunkX & 0xFFFFFFL) << 28) | ((chunkZ & 0xFFFFFFL) << 4) | chunkY;
+  }
+
+  private WorldIndex getIndex(World world) {
+    WorldIndex index = indices.get(world);
+    if(index == null) {
+      index = new WorldIndex();
+      indices.put(world, index);
+    }
+    return index;
+  }
+
+  @SubscribeEvent
+  public void onWorldUnload(WorldEvent.Unload event) {
+    // the cached entities hold on to their world
+    indices.remove(event.world);
+  }
+
+  private static final class WorldIndex {
+
+    private final Map<Long, Section> sections = new HashMap<Long, Section>();
+    private long builtTick = -1;
+
+    <T extends Entity> List<T> select(World world, Class<T> type, int categories, AxisAlignedBB bb, IEntitySelector selector, int limit) {
+      long tick = world.getTotalWorldTime();
+      if(tick != builtTick) {
+        sections.clear();
+        builtTick = tick;
+      }
+
+      List<T> res = new ArrayList<T>();
+      // entities are sorted into sections by their position, but may reach
+      // into the neighbouring ones
+      int minChunkX = MathHelper.floor_double((bb.minX - World.MAX_ENTITY_RADIUS) / 16.0D);
+      int maxChunkX = MathHelper.floor_double((bb.maxX + World.MAX_ENTITY_RADIUS) / 16.0D);
+      int minChunkZ = MathHelper.floor_double((bb.minZ - World.MAX_ENTITY_RADIUS) / 16.0D);
+      int maxChunkZ = MathHelper.floor_double((bb.maxZ + World.MAX_ENTITY_RADIUS) / 16.0D);
+      int minChunkY = MathHelper.clamp_int(MathHelper.floor_double((bb.minY - World.MAX_ENTITY_RADIUS) / 16.0D), 0, 15);
+      int maxChunkY = MathHelper.clamp_int(MathHelper.floor_double((bb.maxY + World.MAX_ENTITY_RADIUS) / 16.0D), 0, 15);
+
+      for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+        for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+          if(!world.getChunkProvider().chunkExists(chunkX, chunkZ)) {
+            continue;
+          }
+          Chunk chunk = null;
+          for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            Long key = getKey(chunkX, chunkY, chunkZ);
+            Section section = sections.get(key);
+            if(section == null) {
+              if(chunk == null) {
+                chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+              }
+              section = new Section(chunk.entityLists[chunkY]);
+              sections.put(key, section);
+            }
+            for (int i = 0; i < section.entities.length; i++) {
+              if((categories & (1 << i)) == 0) {
+                continue;
+              }
+              for (Entity entity : section.entities[i]) {
+                if(!entity.isDead && type.isInstance(entity) && entity.boundingBox.intersectsWith(bb)
+                    && (selector == null || selector.isEntityApplicable(entity))) {
+                  res.add(type.cast(entity));
+                  if(res.size() == limit) {
+                    return res;
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+      return res;
+    }
+
+  }
+
+  private static final class Section {
+
+    // one list per category, in the order of the category bits
+    @SuppressWarnings("unchecked")
+    final List<Entity>[] entities = new List[] { new ArrayList<Entity>(), new ArrayList<Entity>(), new ArrayList<Entity>() };
+
+    Section(List<?> chunkEntities) {
+      for (Object obj : chunkEntities) {
+        Entity entity = (Entity) obj;
+        if(entity.isDead) {
+          continue;
+        }
+        int category = getCategory(entity.getClass());
+        if(category != 0) {
+          entities[Integer.numberOfTrailingZeros(category)].add(entity);
+        }
+      }
+    }
+
+  }
+
+}